@@ -1,20 +1,27 @@
 
 public class countingsort {
     public static void CountingSort(int arr[]) {
+        if (arr.length == 0) {
+            return;
+        }
         int largest = Integer.MIN_VALUE;
+        int smallest = Integer.MAX_VALUE;
         for (int i = 0; i < arr.length; i++) {
             largest = Math.max(largest, arr[i]);
+            smallest = Math.min(smallest, arr[i]);
         }
 
-        int count[] = new int[largest + 1];
+        // shift by smallest so negatives work and count only spans the used range
+        // (for very wide ranges use DSA.DivideConquer.CountingSort, which falls back to radix)
+        int count[] = new int[largest - smallest + 1];
         for (int i = 0; i < arr.length; i++) {
-            count[arr[i]]++;
+            count[arr[i] - smallest]++;
         }
 
         int j = 0;
         for (int i = 0; i < count.length; i++) {
             while (count[i] > 0) {
-                arr[j] = i;
+                arr[j] = i + smallest;
                 j++;
                 count[i]--;
             }
@@ -31,7 +38,7 @@ public class countingsort {
     }
 
     public static void main(String[] args) {
-        int arr[] = { 1,4,1,3,2,4,3,7 };
+        int arr[] = { 1,4,-1,3,2,4,-3,7 };
         CountingSort(arr);
         printArr(arr);
     }
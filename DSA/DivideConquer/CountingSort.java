@@ -0,0 +1,243 @@
+package DSA.DivideConquer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+// Counting sort that works on any int input.
+//  - values are shifted by min, so negatives are fine and the count array
+//    only spans max - min + 1
+//  - when that span is too wide for counting to pay off, it hands over to RadixSort
+//  - parallelSort builds one histogram per chunk in parallel, sums them, and
+//    writes the output ranges in parallel
+//  - sortByKey is the stable key-indexed variant for sorting records by an int key
+public class CountingSort {
+
+    // counting is used while the count array is no bigger than the input
+    // and no bigger than this; anything wider goes to radix
+    static final int MAX_RANGE = 1 << 24;
+
+    // parallelSort keeps all per-chunk histograms together under this many ints (64 MB)
+    static final long HIST_BUDGET = 1 << 24;
+
+    static boolean narrow(long range, int n) {
+        return range <= n && range <= MAX_RANGE;
+    }
+
+    public static void sort(int arr[]) {
+        sort(arr, 0, arr.length);
+    }
+
+    public static void sort(int arr[], int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int min = arr[from], max = arr[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, arr[i]);
+            max = Math.max(max, arr[i]);
+        }
+        long range = (long) max - min + 1;
+        if (!narrow(range, to - from)) {
+            RadixSort.sort(arr, from, to, new int[to - from]);
+            return;
+        }
+        int count[] = new int[(int) range];
+        for (int i = from; i < to; i++) {
+            count[arr[i] - min]++;
+        }
+        int j = from;
+        for (int v = 0; v < count.length; v++) {
+            int c = count[v];
+            if (c > 0) {
+                java.util.Arrays.fill(arr, j, j + c, v + min);
+                j += c;
+            }
+        }
+    }
+
+    public static void parallelSort(int arr[]) {
+        parallelSort(arr, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(int arr[], ForkJoinPool pool) {
+        int n = arr.length;
+        int chunks = Math.max(1, Math.min(pool.getParallelism() * 4, n / (1 << 16)));
+        if (chunks == 1) {
+            sort(arr);
+            return;
+        }
+        int chunkLen = (n + chunks - 1) / chunks;
+
+        // min/max per chunk, then overall
+        int mins[] = new int[chunks], maxs[] = new int[chunks];
+        pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(c -> {
+            int lo = c * chunkLen, hi = Math.min(lo + chunkLen, n);
+            int mn = Integer.MAX_VALUE, mx = Integer.MIN_VALUE;
+            for (int i = lo; i < hi; i++) {
+                mn = Math.min(mn, arr[i]);
+                mx = Math.max(mx, arr[i]);
+            }
+            mins[c] = mn;
+            maxs[c] = mx;
+        })).join();
+        int min = IntStream.of(mins).min().getAsInt();
+        int max = IntStream.of(maxs).max().getAsInt();
+        long range = (long) max - min + 1;
+        if (!narrow(range, n)) {
+            RadixSort.sort(arr, 0, n, new int[n]);
+            return;
+        }
+        int r = (int) range;
+
+        // one histogram per chunk - no sharing, no atomics. Wide ranges get fewer
+        // chunks so the histograms fit the budget; if not even two fit, radix it.
+        int hChunks = (int) Math.min(chunks, HIST_BUDGET / r);
+        if (hChunks < 2) {
+            RadixSort.parallelSort(arr, pool);
+            return;
+        }
+        int hLen = (n + hChunks - 1) / hChunks;
+        int hist[][] = new int[hChunks][];
+        pool.submit(() -> IntStream.range(0, hChunks).parallel().forEach(c -> {
+            int h[] = new int[r];
+            int lo = c * hLen, hi = Math.min(lo + hLen, n);
+            for (int i = lo; i < hi; i++) {
+                h[arr[i] - min]++;
+            }
+            hist[c] = h;
+        })).join();
+
+        // merge: sum the histograms, split over value ranges
+        int count[] = hist[0];
+        int parts = chunks;
+        int partLen = (r + parts - 1) / parts;
+        pool.submit(() -> IntStream.range(0, parts).parallel().forEach(p -> {
+            int lo = p * partLen, hi = Math.min(lo + partLen, r);
+            for (int c = 1; c < hChunks; c++) {
+                int h[] = hist[c];
+                for (int v = lo; v < hi; v++) {
+                    count[v] += h[v];
+                }
+            }
+        })).join();
+
+        // start offset of every value part, then fill each part in parallel
+        long partStart[] = new long[parts + 1];
+        for (int p = 0; p < parts; p++) {
+            long s = 0;
+            for (int v = p * partLen, hi = Math.min(v + partLen, r); v < hi; v++) {
+                s += count[v];
+            }
+            partStart[p + 1] = partStart[p] + s;
+        }
+        pool.submit(() -> IntStream.range(0, parts).parallel().forEach(p -> {
+            int j = (int) partStart[p];
+            for (int v = p * partLen, hi = Math.min(v + partLen, r); v < hi; v++) {
+                int c = count[v];
+                if (c > 0) {
+                    java.util.Arrays.fill(arr, j, j + c, v + min);
+                    j += c;
+                }
+            }
+        })).join();
+    }
+
+    // Stable key-indexed counting: records with equal keys keep their order.
+    // Returns a new array. Keys may be any ints; a wide key range is handled by
+    // a stable LSD radix pass over the keys instead of a count per key.
+    public static <T> T[] sortByKey(T records[], ToIntFunction<? super T> key) {
+        int n = records.length;
+        T out[] = java.util.Arrays.copyOf(records, n);
+        if (n < 2) {
+            return out;
+        }
+        int keys[] = new int[n];
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.applyAsInt(records[i]);
+            min = Math.min(min, keys[i]);
+            max = Math.max(max, keys[i]);
+        }
+        long range = (long) max - min + 1;
+        if (!narrow(range, n)) {
+            int order[] = radixOrder(keys);
+            for (int i = 0; i < n; i++) {
+                out[i] = records[order[i]];
+            }
+            return out;
+        }
+        int start[] = new int[(int) range + 1];
+        for (int k : keys) {
+            start[k - min + 1]++;
+        }
+        for (int v = 0; v < range; v++) {
+            start[v + 1] += start[v];
+        }
+        for (int i = 0; i < n; i++) {
+            out[start[keys[i] - min]++] = records[i];
+        }
+        return out;
+    }
+
+    // indexes of keys in sorted order, equal keys by index - LSD with 11 bit
+    // digits moving a permutation instead of the keys themselves
+    static int[] radixOrder(int keys[]) {
+        int n = keys.length;
+        int order[] = new int[n], tmp[] = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        int count[] = new int[1 << 11];
+        for (int shift = 0; shift < 32; shift += 11) {
+            java.util.Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) {
+                count[((keys[order[i]] ^ Integer.MIN_VALUE) >>> shift) & 0x7ff]++;
+            }
+            int pos = 0;
+            for (int d = 0; d < count.length; d++) {
+                int c = count[d];
+                count[d] = pos;
+                pos += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int k = order[i];
+                tmp[count[((keys[k] ^ Integer.MIN_VALUE) >>> shift) & 0x7ff]++] = k;
+            }
+            int t[] = order; order = tmp; tmp = t;
+        }
+        return order;
+    }
+
+    public static void main(String[] args) {
+        int arr[] = { 1, 4, -1, 3, 2, 4, -3, 7 };
+        sort(arr);
+        System.out.println(java.util.Arrays.toString(arr));
+
+        int wide[] = { 5, 1_000_000_000, -2_000_000_000, 42 }; // radix fallback
+        sort(wide);
+        System.out.println(java.util.Arrays.toString(wide));
+
+        String records[] = { "b:2", "a:1", "c:2", "d:1", "e:0" };
+        String byKey[] = sortByKey(records, s -> s.charAt(2) - '0');
+        System.out.println(java.util.Arrays.toString(byKey)); // e:0 a:1 d:1 b:2 c:2
+
+        Integer ids[] = { 2_000_000_000, -7, 5, -7, 2_000_000_000 }; // wide keys, radix path
+        System.out.println(java.util.Arrays.toString(sortByKey(ids, Integer::intValue)));
+
+        int big[] = new int[50_000_000];
+        java.util.Random rnd = new java.util.Random(2);
+        for (int i = 0; i < big.length; i++) {
+            big[i] = rnd.nextInt(100_000) - 50_000;
+        }
+        int copy[] = big.clone();
+        long start = System.nanoTime();
+        parallelSort(big);
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        java.util.Arrays.sort(copy);
+        long jdkMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("parallel counting " + ms + " ms, Arrays.sort " + jdkMs + " ms, same? "
+                + java.util.Arrays.equals(big, copy));
+    }
+}
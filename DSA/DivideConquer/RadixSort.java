@@ -0,0 +1,350 @@
+package DSA.DivideConquer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Radix sorts - O(n * passes) no matter how wide the values are.
+//  - LSD for int[], long[], float[] and double[] with 8, 11 or 16 bit digits
+//    (4/3/2 passes for int). An instance keeps its scratch buffers, so sorting
+//    many arrays allocates nothing after the first one. Not thread safe.
+//  - americanFlag: in-place MSD on int[], 8 bit digits, no scratch array -
+//    just one small count table per digit level
+//  - parallelSort: LSD where every pass builds per-chunk histograms and
+//    scatters the chunks in parallel
+//
+// Ordering tricks:
+//  - int/long: the sign bit is flipped while reading digits, so negatives come first
+//  - float/double: for negative numbers every bit except the sign is flipped,
+//    which turns the IEEE bits into a signed int/long with the same order.
+//    -0.0 sorts before 0.0 and NaNs go last, like Arrays.sort.
+// Passes where every element has the same digit are skipped.
+public class RadixSort {
+
+    static final int DEFAULT_BITS = 11;
+    static final int FLAG_CUTOFF = 64; // american flag hands small buckets to insertion sort
+
+    final int bits;
+    final int count[];
+    int ints[] = new int[0], ints2[] = new int[0];
+    long longs[] = new long[0], longs2[] = new long[0];
+
+    public RadixSort(int bits) {
+        if (bits != 8 && bits != 11 && bits != 16) {
+            throw new IllegalArgumentException("digit size must be 8, 11 or 16 bits: " + bits);
+        }
+        this.bits = bits;
+        this.count = new int[1 << bits];
+    }
+
+    public RadixSort() {
+        this(DEFAULT_BITS);
+    }
+
+    private int[] intScratch(int n) {
+        if (ints.length < n) {
+            ints = new int[n];
+        }
+        return ints;
+    }
+
+    private long[] longScratch(int n) {
+        if (longs.length < n) {
+            longs = new long[n];
+        }
+        return longs;
+    }
+
+    // ---- LSD cores ----
+
+    // sorts a[from, from + n) as signed ints; tmp needs n slots from 0
+    static void lsd(int a[], int from, int n, int tmp[], int bits, int count[]) {
+        if (n < 2) {
+            return;
+        }
+        int mask = (1 << bits) - 1;
+        int src[] = a, dst[] = tmp;
+        int srcOff = from, dstOff = 0;
+        for (int shift = 0; shift < 32; shift += bits) {
+            java.util.Arrays.fill(count, 0);
+            for (int i = srcOff; i < srcOff + n; i++) {
+                count[((src[i] ^ Integer.MIN_VALUE) >>> shift) & mask]++;
+            }
+            if (count[((src[srcOff] ^ Integer.MIN_VALUE) >>> shift) & mask] == n) {
+                continue; // all the same digit
+            }
+            int pos = dstOff;
+            for (int d = 0; d <= mask; d++) {
+                int c = count[d];
+                count[d] = pos;
+                pos += c;
+            }
+            for (int i = srcOff; i < srcOff + n; i++) {
+                int v = src[i];
+                dst[count[((v ^ Integer.MIN_VALUE) >>> shift) & mask]++] = v;
+            }
+            int t[] = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    static void lsd(long a[], int from, int n, long tmp[], int bits, int count[]) {
+        if (n < 2) {
+            return;
+        }
+        long mask = (1L << bits) - 1;
+        long src[] = a, dst[] = tmp;
+        int srcOff = from, dstOff = 0;
+        for (int shift = 0; shift < 64; shift += bits) {
+            java.util.Arrays.fill(count, 0);
+            for (int i = srcOff; i < srcOff + n; i++) {
+                count[(int) (((src[i] ^ Long.MIN_VALUE) >>> shift) & mask)]++;
+            }
+            if (count[(int) (((src[srcOff] ^ Long.MIN_VALUE) >>> shift) & mask)] == n) {
+                continue;
+            }
+            int pos = dstOff;
+            for (int d = 0; d <= mask; d++) {
+                int c = count[d];
+                count[d] = pos;
+                pos += c;
+            }
+            for (int i = srcOff; i < srcOff + n; i++) {
+                long v = src[i];
+                dst[count[(int) (((v ^ Long.MIN_VALUE) >>> shift) & mask)]++] = v;
+            }
+            long t[] = src; src = dst; dst = t;
+            int o = srcOff; srcOff = dstOff; dstOff = o;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, from, n);
+        }
+    }
+
+    // one-off sort with caller's scratch (at least to - from slots)
+    public static void sort(int arr[], int from, int to, int scratch[]) {
+        lsd(arr, from, to - from, scratch, DEFAULT_BITS, new int[1 << DEFAULT_BITS]);
+    }
+
+    // ---- instance API, scratch reused between calls ----
+
+    public void sort(int arr[]) {
+        lsd(arr, 0, arr.length, intScratch(arr.length), bits, count);
+    }
+
+    public void sort(long arr[]) {
+        lsd(arr, 0, arr.length, longScratch(arr.length), bits, count);
+    }
+
+    // IEEE bits -> signed int with the same order (an involution, so it also maps back)
+    static int floatKey(int b) {
+        return b ^ ((b >> 31) & 0x7fffffff);
+    }
+
+    static long doubleKey(long b) {
+        return b ^ ((b >> 63) & 0x7fffffffffffffffL);
+    }
+
+    public void sort(float arr[]) {
+        int n = arr.length;
+        int keys[] = intScratch(n);
+        if (ints2.length < n) {
+            ints2 = new int[n];
+        }
+        for (int i = 0; i < n; i++) {
+            keys[i] = floatKey(Float.floatToIntBits(arr[i])); // canonical NaN, sorts last
+        }
+        lsd(keys, 0, n, ints2, bits, count);
+        for (int i = 0; i < n; i++) {
+            arr[i] = Float.intBitsToFloat(floatKey(keys[i]));
+        }
+    }
+
+    public void sort(double arr[]) {
+        int n = arr.length;
+        long keys[] = longScratch(n);
+        if (longs2.length < n) {
+            longs2 = new long[n];
+        }
+        for (int i = 0; i < n; i++) {
+            keys[i] = doubleKey(Double.doubleToLongBits(arr[i]));
+        }
+        lsd(keys, 0, n, longs2, bits, count);
+        for (int i = 0; i < n; i++) {
+            arr[i] = Double.longBitsToDouble(doubleKey(keys[i]));
+        }
+    }
+
+    // ---- in-place MSD (American flag) ----
+
+    // one next/end pair per digit level (4 levels for 32 bits), allocated once
+    // per sort and reused by every bucket on that level
+    public static void americanFlag(int arr[]) {
+        americanFlag(arr, 0, arr.length, 24, new int[4][257], new int[4][256]);
+    }
+
+    // Count the digit, work out where each bucket starts and ends, then walk the
+    // buckets and swap every misplaced element straight into the bucket it
+    // belongs to. Each bucket is then sorted on the next digit.
+    static void americanFlag(int arr[], int lo, int hi, int shift, int nexts[][], int ends[][]) {
+        if (hi - lo < FLAG_CUTOFF) {
+            Sorter.insertionSort(arr, lo, hi);
+            return;
+        }
+        // deeper levels only touch their own pair, so this level's end[] survives the recursion
+        int level = (24 - shift) >> 3;
+        int next[] = nexts[level];
+        int end[] = ends[level];
+        java.util.Arrays.fill(next, 0);
+        for (int i = lo; i < hi; i++) {
+            next[(((arr[i] ^ Integer.MIN_VALUE) >>> shift) & 0xff) + 1]++;
+        }
+        next[0] = lo;
+        for (int d = 0; d < 256; d++) {
+            next[d + 1] += next[d];
+            end[d] = next[d + 1];
+        }
+        for (int d = 0; d < 256; d++) {
+            while (next[d] < end[d]) {
+                int v = arr[next[d]];
+                int dv = ((v ^ Integer.MIN_VALUE) >>> shift) & 0xff;
+                while (dv != d) {
+                    int temp = arr[next[dv]];
+                    arr[next[dv]++] = v;
+                    v = temp;
+                    dv = ((v ^ Integer.MIN_VALUE) >>> shift) & 0xff;
+                }
+                arr[next[d]++] = v;
+            }
+        }
+        if (shift == 0) {
+            return;
+        }
+        int start = lo;
+        for (int d = 0; d < 256; d++) {
+            if (end[d] - start > 1) {
+                americanFlag(arr, start, end[d], shift - 8, nexts, ends);
+            }
+            start = end[d];
+        }
+    }
+
+    // ---- parallel LSD ----
+
+    public static void parallelSort(int arr[]) {
+        parallelSort(arr, ForkJoinPool.commonPool());
+    }
+
+    // 8 bit digits, 4 passes. Each pass: every chunk counts its digits, the
+    // counts give each (digit, chunk) pair its own output range, then every
+    // chunk scatters into its ranges - still stable, no two chunks write the same slot.
+    public static void parallelSort(int arr[], ForkJoinPool pool) {
+        int n = arr.length;
+        int chunks = Math.max(1, Math.min(pool.getParallelism() * 4, n / (1 << 14)));
+        if (chunks == 1) {
+            lsd(arr, 0, n, new int[n], 8, new int[256]);
+            return;
+        }
+        int chunkLen = (n + chunks - 1) / chunks;
+        int hist[][] = new int[chunks][256];
+        int bufs[][] = { arr, new int[n] };
+        int from = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            int src[] = bufs[from], dst[] = bufs[1 - from];
+            int sh = shift;
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(c -> {
+                int h[] = hist[c];
+                java.util.Arrays.fill(h, 0);
+                for (int i = c * chunkLen, hi = Math.min(i + chunkLen, n); i < hi; i++) {
+                    h[((src[i] ^ Integer.MIN_VALUE) >>> sh) & 0xff]++;
+                }
+            })).join();
+
+            int first = ((src[0] ^ Integer.MIN_VALUE) >>> sh) & 0xff;
+            int same = 0;
+            for (int c = 0; c < chunks; c++) {
+                same += hist[c][first];
+            }
+            if (same == n) {
+                continue;
+            }
+            int pos = 0;
+            for (int d = 0; d < 256; d++) {
+                for (int c = 0; c < chunks; c++) {
+                    int cnt = hist[c][d];
+                    hist[c][d] = pos;
+                    pos += cnt;
+                }
+            }
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(c -> {
+                int off[] = hist[c];
+                for (int i = c * chunkLen, hi = Math.min(i + chunkLen, n); i < hi; i++) {
+                    int v = src[i];
+                    dst[off[((v ^ Integer.MIN_VALUE) >>> sh) & 0xff]++] = v;
+                }
+            })).join();
+            from = 1 - from;
+        }
+        if (from == 1) {
+            System.arraycopy(bufs[1], 0, arr, 0, n);
+        }
+    }
+
+    public static void main(String[] args) {
+        int arr[] = { 170, -45, 75, -90, 802, 24, 2, 66, Integer.MIN_VALUE, Integer.MAX_VALUE };
+        new RadixSort(8).sort(arr);
+        Sorter.printArr(arr);
+
+        float f[] = { 3.5f, -0.0f, Float.NaN, -7.25f, 0.0f, Float.NEGATIVE_INFINITY, 1e-30f };
+        new RadixSort().sort(f);
+        System.out.println(java.util.Arrays.toString(f));
+
+        double d[] = { 2.5, -1e300, 0.0, -0.0, Double.POSITIVE_INFINITY, -3.0 };
+        new RadixSort(16).sort(d);
+        System.out.println(java.util.Arrays.toString(d));
+
+        long l[] = { 5L, Long.MIN_VALUE, -1L, 1L << 40, 0L };
+        new RadixSort().sort(l);
+        System.out.println(java.util.Arrays.toString(l));
+
+        // 32-bit ids
+        int n = 10_000_000;
+        java.util.Random rnd = new java.util.Random(4);
+        int ids[] = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = rnd.nextInt();
+        }
+        int expected[] = ids.clone();
+        long start = System.nanoTime();
+        java.util.Arrays.sort(expected);
+        System.out.println("Arrays.sort      " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        int work[] = ids.clone();
+        start = System.nanoTime();
+        Sorter.introSort(work, 0, n);
+        System.out.println("introsort        " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        for (int b : new int[] { 8, 11, 16 }) {
+            RadixSort r = new RadixSort(b);
+            work = ids.clone();
+            start = System.nanoTime();
+            r.sort(work);
+            System.out.println("LSD " + b + " bit       " + (System.nanoTime() - start) / 1_000_000 + " ms, same? "
+                    + java.util.Arrays.equals(work, expected));
+        }
+
+        work = ids.clone();
+        start = System.nanoTime();
+        americanFlag(work);
+        System.out.println("american flag    " + (System.nanoTime() - start) / 1_000_000 + " ms, same? "
+                + java.util.Arrays.equals(work, expected));
+
+        work = ids.clone();
+        start = System.nanoTime();
+        parallelSort(work);
+        System.out.println("parallel LSD     " + (System.nanoTime() - start) / 1_000_000 + " ms, same? "
+                + java.util.Arrays.equals(work, expected));
+    }
+}
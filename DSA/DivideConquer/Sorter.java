@@ -0,0 +1,323 @@
+package DSA.DivideConquer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// One entry point for sorting int[] - picks the algorithm from the input:
+//  - INSERTION for tiny ranges (<= 32 elements)
+//  - COUNTING when max - min is small compared to the length
+//  - PARALLEL_MERGE for large arrays when more than one core is available:
+//    leaves are introsorted, merges are split in parallel too
+//  - RADIX for wide-range arrays of RADIX_MIN or more elements: LSD radix,
+//    linear in n, beats the comparison sorts once the scratch array pays off
+//  - INTROSORT otherwise: quick sort with median-of-3 pivots that falls back
+//    to heap sort when recursion gets too deep, so it is never O(n^2)
+// The per-algorithm classes (mergeSortAlg, QuickSort, the 1dArrays sorts)
+// stay as they are; this is the one to call from real code.
+public class Sorter {
+
+    public enum Algorithm { INSERTION, COUNTING, RADIX, INTROSORT, PARALLEL_MERGE }
+
+    static final int INSERTION_MAX = 32;
+    static final int RADIX_MIN = 1 << 12;
+    static final int MERGE_CUTOFF = 1 << 13; // below this a merge is done sequentially
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 17;
+
+    final ForkJoinPool pool;
+    final int parallelThreshold;
+
+    public Sorter(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = Math.max(parallelThreshold, INSERTION_MAX * 2);
+    }
+
+    public Sorter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    static final Sorter DEFAULT = new Sorter();
+
+    public static void sort(int arr[]) {
+        DEFAULT.sort(arr, 0, arr.length);
+    }
+
+    // which algorithm sort() would use for arr[from, to)
+    public Algorithm choose(int arr[], int from, int to) {
+        int n = to - from;
+        if (n <= INSERTION_MAX) {
+            return Algorithm.INSERTION;
+        }
+        int min = arr[from], max = arr[from];
+        for (int i = from + 1; i < to; i++) {
+            min = Math.min(min, arr[i]);
+            max = Math.max(max, arr[i]);
+        }
+        long range = (long) max - min + 1;
+        if (CountingSort.narrow(range, n)) {
+            return Algorithm.COUNTING;
+        }
+        if (n >= parallelThreshold && pool.getParallelism() > 1) {
+            return Algorithm.PARALLEL_MERGE;
+        }
+        if (n >= RADIX_MIN) {
+            return Algorithm.RADIX;
+        }
+        return Algorithm.INTROSORT;
+    }
+
+    public void sort(int arr[], int from, int to) {
+        switch (choose(arr, from, to)) {
+            case INSERTION:
+                insertionSort(arr, from, to);
+                break;
+            case COUNTING:
+                CountingSort.sort(arr, from, to);
+                break;
+            case RADIX:
+                RadixSort.sort(arr, from, to, new int[to - from]);
+                break;
+            case PARALLEL_MERGE:
+                pool.invoke(new MergeSortTask(arr, new int[to - from], from, from, to, parallelThreshold));
+                break;
+            default:
+                introSort(arr, from, to);
+        }
+    }
+
+    // ---- insertion ----
+
+    static void insertionSort(int arr[], int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int curr = arr[i];
+            int prev = i - 1;
+            while (prev >= from && arr[prev] > curr) {
+                arr[prev + 1] = arr[prev];
+                prev--;
+            }
+            arr[prev + 1] = curr;
+        }
+    }
+
+    // ---- introsort ----
+
+    static void introSort(int arr[], int from, int to) {
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(Math.max(to - from, 1)));
+        introSort(arr, from, to - 1, depth);
+    }
+
+    // sorts arr[lo..hi] inclusive; recurses on the smaller side only
+    private static void introSort(int arr[], int lo, int hi, int depth) {
+        while (hi - lo + 1 > INSERTION_MAX) {
+            if (depth-- == 0) {
+                heapSort(arr, lo, hi + 1);
+                return;
+            }
+            int p = partition(arr, lo, hi);
+            if (p - lo < hi - p) {
+                introSort(arr, lo, p, depth);
+                lo = p + 1;
+            } else {
+                introSort(arr, p + 1, hi, depth);
+                hi = p;
+            }
+        }
+        insertionSort(arr, lo, hi + 1);
+    }
+
+    // Hoare partition around the median of first, middle and last.
+    // Returns p with arr[lo..p] <= pivot <= arr[p+1..hi]; copes with many duplicates.
+    private static int partition(int arr[], int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        if (arr[mid] < arr[lo]) swap(arr, mid, lo);
+        if (arr[hi] < arr[lo]) swap(arr, hi, lo);
+        if (arr[hi] < arr[mid]) swap(arr, hi, mid);
+        int pivot = arr[mid];
+        int i = lo - 1, j = hi + 1;
+        while (true) {
+            do {
+                i++;
+            } while (arr[i] < pivot);
+            do {
+                j--;
+            } while (arr[j] > pivot);
+            if (i >= j) {
+                return j;
+            }
+            swap(arr, i, j);
+        }
+    }
+
+    private static void swap(int arr[], int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    static void heapSort(int arr[], int from, int to) {
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, from, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, from, from + end);
+            siftDown(arr, from, 0, end);
+        }
+    }
+
+    private static void siftDown(int arr[], int base, int i, int n) {
+        int val = arr[base + i];
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && arr[base + child + 1] > arr[base + child]) {
+                child++;
+            }
+            if (arr[base + child] <= val) {
+                break;
+            }
+            arr[base + i] = arr[base + child];
+            i = child;
+        }
+        arr[base + i] = val;
+    }
+
+    // ---- parallel merge sort ----
+
+    // tmp only covers the range being sorted: arr[i] pairs with tmp[i - base]
+    static class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        final int arr[], tmp[];
+        final int base, lo, hi, threshold;
+
+        MergeSortTask(int arr[], int tmp[], int base, int lo, int hi, int threshold) {
+            this.arr = arr;
+            this.tmp = tmp;
+            this.base = base;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                introSort(arr, lo, hi);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new MergeSortTask(arr, tmp, base, lo, mid, threshold),
+                      new MergeSortTask(arr, tmp, base, mid, hi, threshold));
+            if (arr[mid - 1] <= arr[mid]) {
+                return; // halves already in order
+            }
+            new MergeTask(arr, lo, mid, mid, hi, tmp, lo - base).compute();
+            System.arraycopy(tmp, lo - base, arr, lo, hi - lo);
+        }
+    }
+
+    // merge src[lo1, hi1) and src[lo2, hi2) into dst starting at out.
+    // Big merges split the larger run at its middle, binary search the split
+    // point in the other run, and merge the two pairs in parallel.
+    static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        final int src[], dst[];
+        final int lo1, hi1, lo2, hi2, out;
+
+        MergeTask(int src[], int lo1, int hi1, int lo2, int hi2, int dst[], int out) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1, n2 = hi2 - lo2;
+            if (n1 + n2 <= MERGE_CUTOFF) {
+                int i = lo1, j = lo2, k = out;
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+                }
+                System.arraycopy(src, i, dst, k, hi1 - i);
+                System.arraycopy(src, j, dst, k + hi1 - i, hi2 - j);
+                return;
+            }
+            if (n1 >= n2) {
+                int m1 = (lo1 + hi1) >>> 1;
+                int m2 = lowerBound(src, lo2, hi2, src[m1]);
+                int outMid = out + (m1 - lo1) + (m2 - lo2);
+                dst[outMid] = src[m1];
+                invokeAll(new MergeTask(src, lo1, m1, lo2, m2, dst, out),
+                          new MergeTask(src, m1 + 1, hi1, m2, hi2, dst, outMid + 1));
+            } else {
+                int m2 = (lo2 + hi2) >>> 1;
+                int m1 = upperBound(src, lo1, hi1, src[m2]);
+                int outMid = out + (m1 - lo1) + (m2 - lo2);
+                dst[outMid] = src[m2];
+                invokeAll(new MergeTask(src, lo1, m1, lo2, m2, dst, out),
+                          new MergeTask(src, m1, hi1, m2 + 1, hi2, dst, outMid + 1));
+            }
+        }
+    }
+
+    // first index in [lo, hi) with arr[i] >= key
+    static int lowerBound(int arr[], int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // first index in [lo, hi) with arr[i] > key
+    static int upperBound(int arr[], int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    public static void printArr(int[] arr) {
+        for (int i = 0; i < arr.length; i++) {
+            System.out.print(arr[i] + " ");
+        }
+        System.out.println();
+    }
+
+    public static void main(String[] args) {
+        int small[] = { 6, 3, 9, 5, 2, 8 };
+        sort(small);
+        printArr(small);
+
+        java.util.Random rnd = new java.util.Random(1);
+        int n = 20_000_000;
+        int arr[] = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = rnd.nextInt();
+        }
+        int copy[] = arr.clone();
+
+        Sorter sorter = new Sorter();
+        long start = System.nanoTime();
+        System.out.println("picked " + sorter.choose(arr, 0, n));
+        sorter.sort(arr, 0, n);
+        long ms = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        java.util.Arrays.sort(copy);
+        long jdkMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Sorter " + ms + " ms, Arrays.sort " + jdkMs + " ms, same? " + java.util.Arrays.equals(arr, copy));
+
+        int narrow[] = new int[n];
+        for (int i = 0; i < n; i++) {
+            narrow[i] = rnd.nextInt(1000) - 500;
+        }
+        start = System.nanoTime();
+        System.out.println("picked " + sorter.choose(narrow, 0, n));
+        sorter.sort(narrow, 0, n);
+        System.out.println("narrow range in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
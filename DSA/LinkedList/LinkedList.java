@@ -1,6 +1,16 @@
 package DSA.LinkedList;
 
-public class LinkedList {
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class LinkedList implements Iterable<Integer> {
     public class Node {
         int data;
         Node next;
@@ -235,6 +245,205 @@ public class LinkedList {
         prev.next = null;
     }
 
+    // result of a cycle scan
+    // tailLength = nodes before the cycle (mu), cycleLength = nodes in the loop (lambda)
+    public static class CycleInfo {
+        public final boolean hasCycle;
+        public final int tailLength;
+        public final int cycleLength;
+        public final Node entry;
+
+        CycleInfo(boolean hasCycle, int tailLength, int cycleLength, Node entry) {
+            this.hasCycle = hasCycle;
+            this.tailLength = tailLength;
+            this.cycleLength = cycleLength;
+            this.entry = entry;
+        }
+
+        @Override
+        public String toString() {
+            if (!hasCycle) {
+                return "no cycle (length " + tailLength + ")";
+            }
+            return "cycle: tail=" + tailLength + " loop=" + cycleLength + " entry=" + entry.data;
+        }
+    }
+
+    // Detect + measure cycle - Brent's alg
+    // the hare moves one step per iteration and the tortoise teleports to it
+    // at every power of two, so there is no second pointer walking the list
+    public static CycleInfo brent(Node start) {
+        if (start == null) {
+            return new CycleInfo(false, 0, 0, null);
+        }
+
+        int power = 1;
+        int lam = 1;
+        int steps = 1; // nodes seen so far, used as list length when there is no cycle
+        Node tortoise = start;
+        Node hare = start.next;
+        while (tortoise != hare) {
+            if (hare == null) {
+                return new CycleInfo(false, steps, 0, null);
+            }
+            if (power == lam) {
+                tortoise = hare;
+                power *= 2;
+                lam = 0;
+            }
+            hare = hare.next;
+            lam++;
+            steps++;
+        }
+
+        // hare starts lam nodes ahead, they meet at the cycle entry
+        tortoise = hare = start;
+        for (int i = 0; i < lam; i++) {
+            hare = hare.next;
+        }
+        int mu = 0;
+        while (tortoise != hare) {
+            tortoise = tortoise.next;
+            hare = hare.next;
+            mu++;
+        }
+        return new CycleInfo(true, mu, lam, tortoise);
+    }
+
+    public static CycleInfo cycleInfo() {
+        return brent(head);
+    }
+
+    // Remove Cycle using Brent's result - walks the loop once to find its last node
+    public static CycleInfo removeCycleBrent() {
+        CycleInfo info = brent(head);
+        if (!info.hasCycle) {
+            return info;
+        }
+        Node last = info.entry;
+        for (int i = 1; i < info.cycleLength; i++) {
+            last = last.next;
+        }
+        last.next = null;
+        tail = last;
+        return info;
+    }
+
+    // validate many lists at once, each scan is independent and read-only
+    public static CycleInfo[] checkAll(Node[] heads) {
+        return Stream.of(heads).parallel().map(LinkedList::brent).toArray(CycleInfo[]::new);
+    }
+
+    // Spliterator over the list
+    // trySplit copies half of the remaining nodes into an int[] so the
+    // prefix can be processed by another thread while this one keeps walking
+    static class LLSpliterator implements Spliterator.OfInt {
+        static final int MIN_SPLIT = 1024; // below this splitting costs more than it saves
+        static final int MAX_BATCH = 1 << 25;
+
+        Node curr;
+        long est;
+
+        LLSpliterator(Node start, long est) {
+            this.curr = start;
+            this.est = est;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (curr == null) {
+                return false;
+            }
+            int val = curr.data;
+            curr = curr.next;
+            if (est > 0) {
+                est--;
+            }
+            action.accept(val);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Node temp = curr;
+            curr = null;
+            est = 0;
+            while (temp != null) {
+                action.accept(temp.data);
+                temp = temp.next;
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (curr == null || est < MIN_SPLIT) {
+                return null;
+            }
+            int batch = (int) Math.min(est / 2, MAX_BATCH);
+            int arr[] = new int[batch];
+            int i = 0;
+            Node temp = curr;
+            while (i < batch && temp != null) {
+                arr[i++] = temp.data;
+                temp = temp.next;
+            }
+            curr = temp;
+            est = (temp == null) ? 0 : est - i;
+            return Spliterators.spliterator(arr, 0, i, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        @Override
+        public long estimateSize() {
+            return est;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return new LLSpliterator(head, size);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    // bulk operations - sequential walk, no boxing
+    public void forEachInt(IntConsumer action) {
+        Node temp = head;
+        while (temp != null) {
+            action.accept(temp.data);
+            temp = temp.next;
+        }
+    }
+
+    public int reduce(int identity, IntBinaryOperator op) {
+        int res = identity;
+        Node temp = head;
+        while (temp != null) {
+            res = op.applyAsInt(res, temp.data);
+            temp = temp.next;
+        }
+        return res;
+    }
+
+    // values matching the predicate, in list order
+    public int[] filter(IntPredicate pred) {
+        return stream().filter(pred).toArray();
+    }
+
     // print LinkedList
     public void printLL() {
         if (head == null) {
@@ -256,6 +465,23 @@ public class LinkedList {
         ll.addLast(2);
         ll.addLast(1);
         ll.printLL();
+
+        for (int i = 3; i <= 10000; i++) {
+            ll.addLast(i);
+        }
+        System.out.println("sum (sequential) = " + ll.reduce(0, Integer::sum));
+        System.out.println("sum (parallel)   = " + ll.parallelStream().asLongStream().sum());
+        System.out.println("even count       = " + ll.filter(x -> x % 2 == 0).length);
+
+        // make a loop back to the 5th node and measure it
+        Node entry = head;
+        for (int i = 0; i < 4; i++) {
+            entry = entry.next;
+        }
+        tail.next = entry;
+        System.out.println(cycleInfo());
+        removeCycleBrent();
+        System.out.println(cycleInfo());
     }
 
 }
@@ -124,6 +124,88 @@ public class PalindromeLL {
             return true;
         }
         
+        // Read-only palindrome check - rolling hashes
+        // fwd = a0*B^(n-1) + ... + a(n-1), rev = a0 + a1*B + ... + a(n-1)*B^(n-1)
+        // both are built in one pass; equal hashes mean palindrome with high probability.
+        // Nothing is relinked, so readers can walk the list at the same time.
+        static final long MOD1 = 1_000_000_007L;
+        static final long MOD2 = 998_244_353L;
+        static final long BASE = 1_000_003L;
+
+        public boolean PalindromeHash(){
+            long fwd1 = 0, rev1 = 0, pow1 = 1;
+            long fwd2 = 0, rev2 = 0, pow2 = 1;
+            Node temp = head;
+            while(temp != null){
+                // shift into [0, MOD) so negative values hash consistently
+                long x1 = Math.floorMod(temp.data, MOD1);
+                long x2 = Math.floorMod(temp.data, MOD2);
+                fwd1 = (fwd1 * BASE + x1) % MOD1;
+                rev1 = (rev1 + x1 * pow1) % MOD1;
+                pow1 = pow1 * BASE % MOD1;
+                fwd2 = (fwd2 * BASE + x2) % MOD2;
+                rev2 = (rev2 + x2 * pow2) % MOD2;
+                pow2 = pow2 * BASE % MOD2;
+                temp = temp.next;
+            }
+            return fwd1 == rev1 && fwd2 == rev2;
+        }
+
+        // Exact read-only check with bounded memory
+        // one walk counts the nodes and keeps every `chunk`-th node as a checkpoint;
+        // then the right half is copied block by block into a buffer of `chunk`
+        // ints (starting from the nearest checkpoint) and compared against the
+        // matching left positions. O(n) hops, O(chunk + n / chunk) memory.
+        public boolean PalindromeChunked(int chunk){
+            chunk = Math.max(1, chunk);
+            Node marks[] = new Node[16];
+            int n = 0;
+            Node temp = head;
+            while(temp != null){
+                if(n % chunk == 0){
+                    if(n / chunk == marks.length){
+                        marks = java.util.Arrays.copyOf(marks, marks.length * 2);
+                    }
+                    marks[n / chunk] = temp;
+                }
+                n++;
+                temp = temp.next;
+            }
+            if(n < 2){
+                return true;
+            }
+
+            int buf[] = new int[Math.min(chunk, n / 2)];
+            Node left = head;
+            int done = 0; // left positions verified so far
+            while(done < n / 2){
+                int len = Math.min(buf.length, n / 2 - done);
+                // mirror of [done, done+len) is [n-done-len, n-done)
+                int from = n - done - len;
+                Node right = marks[from / chunk];
+                for(int i = from / chunk * chunk; i < from; i++){
+                    right = right.next;
+                }
+                for(int i = 0; i < len; i++){
+                    buf[i] = right.data;
+                    right = right.next;
+                }
+                for(int i = 0; i < len; i++){
+                    if(left.data != buf[len - 1 - i]){
+                        return false;
+                    }
+                    left = left.next;
+                }
+                done += len;
+            }
+            return true;
+        }
+
+        // hash first, only pay for the exact pass when the hash says yes
+        public boolean PalindromeReadOnly(){
+            return PalindromeHash() && PalindromeChunked(1 << 16);
+        }
+
         //print LinkedList
         public void printLL(){
             if (head == null){
@@ -152,6 +234,10 @@ public class PalindromeLL {
 
             System.out.println("after Checking Palindrome");
 
+            System.out.println(ll.PalindromeHash());
+            System.out.println(ll.PalindromeChunked(2));
+            System.out.println(ll.PalindromeReadOnly());
+
             System.out.println(ll.Palindrome());
 
             
@@ -79,6 +79,155 @@ public class zigZagLL {
         }
     }
 
+    // ---- general reorder engine ----
+    // every operation relinks the existing nodes in O(n) and never allocates a Node
+
+    // count nodes and fix up the tail pointer
+    private int relength() {
+        int n = 0;
+        Node temp = head;
+        tail = null;
+        while (temp != null) {
+            n++;
+            tail = temp;
+            temp = temp.next;
+        }
+        size = n;
+        return n;
+    }
+
+    // Reverse in groups of k - a last group shorter than k is left as is
+    public void reverseKGroup(int k) {
+        if (head == null || k < 2) return;
+
+        Node prevTail = null; // tail of the already processed part
+        Node groupHead = head;
+        while (groupHead != null) {
+            // check there are k nodes left
+            Node check = groupHead;
+            int cnt = 0;
+            while (check != null && cnt < k) {
+                check = check.next;
+                cnt++;
+            }
+            if (cnt < k) {
+                if (prevTail != null) prevTail.next = groupHead;
+                break;
+            }
+
+            // reverse k nodes, groupHead becomes the group's tail
+            Node prev = check;
+            Node curr = groupHead;
+            for (int i = 0; i < k; i++) {
+                Node next = curr.next;
+                curr.next = prev;
+                prev = curr;
+                curr = next;
+            }
+            if (prevTail == null) {
+                head = prev;
+            } else {
+                prevTail.next = prev;
+            }
+            prevTail = groupHead;
+            groupHead = check;
+        }
+        relength();
+    }
+
+    // Rotate right by k places (negative k rotates left)
+    public void rotate(int k) {
+        int n = relength();
+        if (n < 2) return;
+        k = ((k % n) + n) % n;
+        if (k == 0) return;
+
+        // new tail is node n-k-1
+        Node newTail = head;
+        for (int i = 0; i < n - k - 1; i++) {
+            newTail = newTail.next;
+        }
+        tail.next = head;
+        head = newTail.next;
+        newTail.next = null;
+        tail = newTail;
+    }
+
+    // Stable 3-way partition: < pivot, == pivot, > pivot
+    public void partition(int pivot) {
+        Node lessH = null, lessT = null;
+        Node eqH = null, eqT = null;
+        Node moreH = null, moreT = null;
+
+        Node curr = head;
+        while (curr != null) {
+            Node next = curr.next;
+            curr.next = null;
+            if (curr.data < pivot) {
+                if (lessH == null) lessH = curr; else lessT.next = curr;
+                lessT = curr;
+            } else if (curr.data == pivot) {
+                if (eqH == null) eqH = curr; else eqT.next = curr;
+                eqT = curr;
+            } else {
+                if (moreH == null) moreH = curr; else moreT.next = curr;
+                moreT = curr;
+            }
+            curr = next;
+        }
+
+        // stitch the non-empty parts together
+        head = null;
+        tail = null;
+        Node[] heads = { lessH, eqH, moreH };
+        Node[] tails = { lessT, eqT, moreT };
+        for (int i = 0; i < 3; i++) {
+            if (heads[i] == null) continue;
+            if (head == null) head = heads[i]; else tail.next = heads[i];
+            tail = tails[i];
+        }
+    }
+
+    // k-way interleave
+    // splits the list into k nearly equal runs and takes one node from each run in turn:
+    // k=2 on 1..6 gives 1 4 2 5 3 6. Needs k run pointers, nothing proportional to n.
+    public void interleave(int k) {
+        int n = relength();
+        if (n < 2 || k < 2) return;
+        k = Math.min(k, n);
+
+        // cut into runs, the first n%k runs get one extra node
+        Node[] runs = new Node[k];
+        Node curr = head;
+        for (int r = 0; r < k; r++) {
+            int len = n / k + (r < n % k ? 1 : 0);
+            runs[r] = curr;
+            for (int i = 0; i < len - 1; i++) {
+                curr = curr.next;
+            }
+            Node next = curr.next;
+            curr.next = null;
+            curr = next;
+        }
+
+        // round robin over the runs
+        head = null;
+        tail = null;
+        boolean any = true;
+        while (any) {
+            any = false;
+            for (int r = 0; r < k; r++) {
+                Node node = runs[r];
+                if (node == null) continue;
+                runs[r] = node.next;
+                node.next = null;
+                if (head == null) head = node; else tail.next = node;
+                tail = node;
+                any = true;
+            }
+        }
+    }
+
     public static void main(String[] args) {
         zigZagLL list = new zigZagLL();
         list.addLast(1);
@@ -94,5 +243,26 @@ public class zigZagLL {
 
         System.out.println("ZigZag List:");
         list.printList(head);
+
+        head = tail = null;
+        size = 0;
+        for (int i = 1; i <= 8; i++) {
+            list.addLast(i);
+        }
+        list.reverseKGroup(3);
+        System.out.println("Reverse in groups of 3:");
+        list.printList(head);
+
+        list.rotate(2);
+        System.out.println("Rotate right by 2:");
+        list.printList(head);
+
+        list.partition(4);
+        System.out.println("Partition around 4:");
+        list.printList(head);
+
+        list.interleave(3);
+        System.out.println("3-way interleave:");
+        list.printList(head);
     }
 }
@@ -0,0 +1,284 @@
+package DSA.Queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Thread-safe bounded queue built on CircularQueueArray's ring.
+// One lock guards the ring; putAll/drainTo move whole batches under a single
+// acquisition so producers and consumers don't pay for the lock per element.
+// What happens when the ring is full is decided by the OverflowPolicy.
+public class BlockingCircularQueue {
+
+    public enum OverflowPolicy {
+        BLOCK,       // wait for space
+        DROP_OLDEST, // overwrite the front element
+        DROP_NEWEST, // discard the incoming element
+        FAIL         // throw IllegalStateException (putAll: before inserting anything)
+    }
+
+    final CircularQueueArray q;
+    final OverflowPolicy policy;
+    final ReentrantLock lock = new ReentrantLock();
+    final Condition notEmpty = lock.newCondition();
+    final Condition notFull = lock.newCondition();
+    long dropped; // guarded by lock
+
+    public BlockingCircularQueue(int capacity, OverflowPolicy policy) {
+        this.q = new CircularQueueArray(capacity);
+        this.policy = policy;
+    }
+
+    // ---- ring helpers, caller holds the lock ----
+
+    private void push(int item) {
+        q.rear = (q.rear + 1) % q.capacity;
+        q.arr[q.rear] = item;
+        q.size++;
+    }
+
+    private int pop() {
+        int item = q.arr[q.front];
+        q.front = (q.front + 1) % q.capacity;
+        q.size--;
+        return item;
+    }
+
+    // make room for one element according to the policy.
+    // returns false if the element should be discarded
+    private boolean makeRoom() throws InterruptedException {
+        if (!q.isFull()) {
+            return true;
+        }
+        switch (policy) {
+            case BLOCK:
+                while (q.isFull()) {
+                    notFull.await();
+                }
+                return true;
+            case DROP_OLDEST:
+                pop();
+                dropped++;
+                return true;
+            case DROP_NEWEST:
+                dropped++;
+                return false;
+            default:
+                throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    // ---- producer side ----
+
+    public void put(int item) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (makeRoom()) {
+                push(item);
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // waits up to timeout for space regardless of policy, false if it timed out
+    public boolean offer(int item, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (q.isFull()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            push(item);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // put len values, taking the lock once per run of free slots.
+    // Under FAIL the batch is all or nothing: if it doesn't fit, nothing is inserted.
+    public void putAll(int[] src, int off, int len) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (policy == OverflowPolicy.FAIL && len > q.capacity - q.size) {
+                throw new IllegalStateException("Queue is full: room for " + (q.capacity - q.size)
+                        + ", batch of " + len);
+            }
+            int i = 0;
+            while (i < len) {
+                if (!makeRoom()) { // DROP_NEWEST on a full ring, the rest is dropped too
+                    dropped += len - i - 1;
+                    break;
+                }
+                int free = q.capacity - q.size;
+                int n = Math.min(free, len - i);
+                for (int k = 0; k < n; k++) {
+                    push(src[off + i + k]);
+                }
+                i += n;
+                notEmpty.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---- consumer side ----
+
+    public int take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (q.isEmpty()) {
+                notEmpty.await();
+            }
+            int item = pop();
+            notFull.signal();
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // -1 if nothing arrived within the timeout, like the other queues' dequeue.
+    // That can't be told apart from a real -1 - use the timed drainTo, which
+    // returns a count, when -1 is a valid element
+    public int poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (q.isEmpty()) {
+                if (nanos <= 0) {
+                    return -1;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            int item = pop();
+            notFull.signal();
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // move up to max available elements without waiting, returns the count
+    public int drainTo(int[] dst, int max) {
+        lock.lock();
+        try {
+            int n = Math.min(Math.min(max, dst.length), q.size);
+            for (int i = 0; i < n; i++) {
+                dst[i] = pop();
+            }
+            if (n > 0) {
+                notFull.signalAll();
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // waits up to timeout for at least one element, then moves up to max
+    // available ones; returns the count, 0 if the timeout passed
+    public int drainTo(int[] dst, int max, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (q.isEmpty()) {
+                if (nanos <= 0) {
+                    return 0;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return drainTo(dst, max); // the lock is reentrant
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return q.size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long dropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // bursty producer, slower batch consumer - BLOCK throttles instead of losing data
+        BlockingCircularQueue bq = new BlockingCircularQueue(1024, OverflowPolicy.BLOCK);
+        int total = 1_000_000;
+
+        Thread producer = new Thread(() -> {
+            int batch[] = new int[500];
+            try {
+                for (int i = 0; i < total; i += batch.length) {
+                    for (int j = 0; j < batch.length; j++) {
+                        batch[j] = i + j;
+                    }
+                    bq.putAll(batch, 0, batch.length);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        int buf[] = new int[256];
+        long sum = 0;
+        int got = 0;
+        while (got < total) {
+            int n = bq.drainTo(buf, buf.length, 10, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < n; i++) {
+                sum += buf[i];
+            }
+            got += n;
+        }
+        producer.join();
+        System.out.println("BLOCK: received " + got + ", sum ok? " + (sum == (long) total * (total - 1) / 2));
+
+        // lossy policies on a tiny ring
+        for (OverflowPolicy p : new OverflowPolicy[] { OverflowPolicy.DROP_OLDEST, OverflowPolicy.DROP_NEWEST }) {
+            BlockingCircularQueue small = new BlockingCircularQueue(3, p);
+            small.putAll(new int[] { 1, 2, 3, 4, 5 }, 0, 5);
+            int out[] = new int[3];
+            int n = small.drainTo(out, 3);
+            System.out.print(p + ": ");
+            for (int i = 0; i < n; i++) {
+                System.out.print(out[i] + " ");
+            }
+            System.out.println("(dropped " + small.dropped() + ")");
+        }
+
+        BlockingCircularQueue failing = new BlockingCircularQueue(1, OverflowPolicy.FAIL);
+        failing.put(1);
+        try {
+            failing.put(2);
+        } catch (IllegalStateException e) {
+            System.out.println("FAIL: " + e.getMessage());
+        }
+
+        BlockingCircularQueue batchFail = new BlockingCircularQueue(4, OverflowPolicy.FAIL);
+        batchFail.put(1);
+        try {
+            batchFail.putAll(new int[] { 2, 3, 4, 5 }, 0, 4);
+        } catch (IllegalStateException e) {
+            System.out.println("FAIL: " + e.getMessage() + ", size still " + batchFail.size()); // 1
+        }
+    }
+}
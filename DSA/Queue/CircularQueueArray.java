@@ -5,6 +5,7 @@ public class CircularQueueArray {
     int front, rear, size;
     int capacity;
     int arr[];
+    QueueListener listener = QueueListener.NONE;
 
     public CircularQueueArray(int capacity) {
         this.capacity = capacity;
@@ -14,6 +15,10 @@ public class CircularQueueArray {
         size = 0;
     }
 
+    void setListener(QueueListener listener) {
+        this.listener = listener;
+    }
+
     // Check if queue is full
     boolean isFull() {
         return size == capacity;
@@ -24,34 +29,36 @@ public class CircularQueueArray {
         return size == 0;
     }
 
-    // Enqueue
-    void enqueue(int item) {
+    // Enqueue - returns false if the queue is full
+    boolean enqueue(int item) {
         if (isFull()) {
-            System.out.println("Queue is full");
-            return;
+            listener.onOverflow(item);
+            return false;
         }
         rear = (rear + 1) % capacity;
         arr[rear] = item;
         size++;
-        System.out.println(item + " enqueued");
+        listener.onEnqueue(item);
+        return true;
     }
 
-    // Dequeue
+    // Dequeue - returns -1 if the queue is empty
     int dequeue() {
         if (isEmpty()) {
-            System.out.println("Queue is empty");
+            listener.onUnderflow();
             return -1;
         }
         int item = arr[front];
         front = (front + 1) % capacity;
         size--;
+        listener.onDequeue(item);
         return item;
     }
 
-    // Peek front element
+    // Peek front element - returns -1 if the queue is empty
     int peek() {
         if (isEmpty()) {
-            System.out.println("Queue is empty");
+            listener.onUnderflow();
             return -1;
         }
         return arr[front];
@@ -73,6 +80,8 @@ public class CircularQueueArray {
 
     public static void main(String[] args) {
         CircularQueueArray q = new CircularQueueArray(5);
+        QueueCounters counters = new QueueCounters();
+        q.setListener(counters);
 
         q.enqueue(10);
         q.enqueue(20);
@@ -82,7 +91,7 @@ public class CircularQueueArray {
 
         q.printQueue();
 
-        q.enqueue(60); // Queue is full
+        System.out.println("enqueue 60: " + q.enqueue(60)); // false, queue is full
 
         System.out.println("Dequeued: " + q.dequeue());
         System.out.println("Dequeued: " + q.dequeue());
@@ -102,6 +111,7 @@ public class CircularQueueArray {
         }
 
         q.printQueue(); // Queue is empty
+        System.out.println(counters);
     }
 
 }
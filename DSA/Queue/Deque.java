@@ -6,7 +6,7 @@ public class Deque {
     //stack and queue using deque
 
     static class stack{
-        java.util.Deque<Integer> deque = new LinkedList<>();
+        IntArrayDeque deque = new IntArrayDeque();
 
         public void push(int data){
             deque.addLast(data);
@@ -22,7 +22,7 @@ public class Deque {
     }
 
     static class Queue{
-        java.util.Deque<Integer> deque = new LinkedList<>();
+        IntArrayDeque deque = new IntArrayDeque();
 
         public void add(int data){
             deque.addLast(data);
@@ -0,0 +1,246 @@
+package DSA.Queue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+// Streaming version of FirstNonRepeating for any Unicode text.
+// Works on code points, not 'a'..'z'. Instead of a queue that has to be
+// trimmed, the code points seen exactly once sit in a doubly linked list
+// (kept in int arrays); a code point that repeats is unlinked in O(1).
+// The answer after each code point is the list head, or -1.
+public class FirstNonRepeatingStream {
+
+    static final int REPEATED = -2;
+    static final int NONE = -1;
+
+    // open-addressing map: code point -> list node, or REPEATED
+    int keys[];
+    int vals[];
+    int mapSize;
+
+    // list nodes, recycled through a free list
+    int cp[];
+    int prev[];
+    int next[];
+    int head = NONE, tail = NONE, free = NONE, used = 0;
+
+    // high surrogate left over from the previous Reader buffer
+    char pendingHigh;
+
+    public FirstNonRepeatingStream() {
+        keys = new int[64];
+        vals = new int[64];
+        java.util.Arrays.fill(keys, -1);
+        cp = new int[16];
+        prev = new int[16];
+        next = new int[16];
+    }
+
+    // ---- map ----
+
+    // Fibonacci hashing: the top log2(capacity) bits of the product, so every
+    // slot is reachable however large the table grows
+    private int slot(int key) {
+        int mask = keys.length - 1;
+        int i = (key * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(keys.length));
+        while (keys[i] != -1 && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void rehash() {
+        int oldKeys[] = keys;
+        int oldVals[] = vals;
+        keys = new int[oldKeys.length * 2];
+        vals = new int[oldKeys.length * 2];
+        java.util.Arrays.fill(keys, -1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != -1) {
+                int s = slot(oldKeys[i]);
+                keys[s] = oldKeys[i];
+                vals[s] = oldVals[i];
+            }
+        }
+    }
+
+    // ---- list ----
+
+    private int newNode(int c) {
+        int n;
+        if (free != NONE) {
+            n = free;
+            free = next[n];
+        } else {
+            if (used == cp.length) {
+                cp = java.util.Arrays.copyOf(cp, used * 2);
+                prev = java.util.Arrays.copyOf(prev, used * 2);
+                next = java.util.Arrays.copyOf(next, used * 2);
+            }
+            n = used++;
+        }
+        cp[n] = c;
+        prev[n] = tail;
+        next[n] = NONE;
+        if (tail == NONE) {
+            head = n;
+        } else {
+            next[tail] = n;
+        }
+        tail = n;
+        return n;
+    }
+
+    private void unlink(int n) {
+        if (prev[n] == NONE) {
+            head = next[n];
+        } else {
+            next[prev[n]] = next[n];
+        }
+        if (next[n] == NONE) {
+            tail = prev[n];
+        } else {
+            prev[next[n]] = prev[n];
+        }
+        next[n] = free;
+        free = n;
+    }
+
+    // feed one code point, returns the first non-repeating code point so far or -1
+    public int accept(int c) {
+        int s = slot(c);
+        if (keys[s] == -1) {
+            keys[s] = c;
+            vals[s] = newNode(c);
+            if (++mapSize * 2 > keys.length) {
+                rehash();
+            }
+        } else if (vals[s] != REPEATED) {
+            unlink(vals[s]);
+            vals[s] = REPEATED;
+        }
+        return first();
+    }
+
+    public int first() {
+        return head == NONE ? NONE : cp[head];
+    }
+
+    // ---- sources ----
+
+    // every code point in the buffer; a trailing high surrogate waits for the next call
+    public void process(CharBuffer buf, IntConsumer sink) {
+        while (buf.hasRemaining()) {
+            char ch = buf.get();
+            if (pendingHigh != 0) {
+                char high = pendingHigh;
+                pendingHigh = 0;
+                if (Character.isLowSurrogate(ch)) {
+                    sink.accept(accept(Character.toCodePoint(high, ch)));
+                    continue;
+                }
+                sink.accept(accept(high)); // unpaired, pass it through as is
+            }
+            if (Character.isHighSurrogate(ch)) {
+                pendingHigh = ch;
+            } else {
+                sink.accept(accept(ch));
+            }
+        }
+    }
+
+    public void process(CharSequence text, IntConsumer sink) {
+        process(CharBuffer.wrap(text), sink);
+        finish(sink);
+    }
+
+    // streams the whole Reader through a reused 8K buffer
+    public void process(Reader in, IntConsumer sink) throws IOException {
+        CharBuffer buf = CharBuffer.allocate(8192);
+        while (in.read(buf) != -1) {
+            buf.flip();
+            process(buf, sink);
+            buf.clear();
+        }
+        finish(sink);
+    }
+
+    // flush a dangling high surrogate at end of input
+    public void finish(IntConsumer sink) {
+        if (pendingHigh != 0) {
+            char high = pendingHigh;
+            pendingHigh = 0;
+            sink.accept(accept(high));
+        }
+    }
+
+    // Independent streams in parallel - one engine per stream, no shared state.
+    // sinks.get(i) receives the results for streams.get(i).
+    public static void processAll(List<Reader> streams, List<IntConsumer> sinks, int threads)
+            throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < streams.size(); i++) {
+                Reader in = streams.get(i);
+                IntConsumer sink = sinks.get(i);
+                futures.add(pool.submit(() -> {
+                    try {
+                        new FirstNonRepeatingStream().process(in, sink);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                try {
+                    f.get();
+                } catch (java.util.concurrent.ExecutionException e) {
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        IntConsumer printer = c -> System.out.print(c == NONE ? "-1 " : new String(Character.toChars(c)) + " ");
+
+        new FirstNonRepeatingStream().process("aabccxb", printer);
+        System.out.println(); // same as FirstNonRepeating: a -1 b b b b x
+
+        new FirstNonRepeatingStream().process(new StringReader("\u00C4\u00E4\u00C4\uD83D\uDE00\u00E4\uD83D\uDE00\u00DF"), printer);
+        System.out.println();
+
+        // sharded: count how often each stream has no answer
+        int shards = 4;
+        List<Reader> streams = new ArrayList<>();
+        List<IntConsumer> sinks = new ArrayList<>();
+        long noAnswer[] = new long[shards];
+        for (int s = 0; s < shards; s++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 200_000; i++) {
+                sb.appendCodePoint(0x4E00 + (i * 31 + s) % 5000);
+            }
+            streams.add(new StringReader(sb.toString()));
+            int id = s;
+            sinks.add(c -> {
+                if (c == NONE) {
+                    noAnswer[id]++;
+                }
+            });
+        }
+        processAll(streams, sinks, shards);
+        System.out.println("no-answer counts per shard: " + java.util.Arrays.toString(noAnswer));
+    }
+}
@@ -0,0 +1,302 @@
+package DSA.Queue;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// Growable ring of primitive ints - double ended.
+// Capacity is always a power of two so wrap-around is (i & mask) instead of %.
+// Each element costs 4 bytes in the array, no Node and no boxed Integer.
+// Naming follows java.util.Deque: removeFirst/removeLast/getFirst/getLast/element
+// throw NoSuchElementException when empty. There are no poll/peek variants since
+// an int has no null to return - check isEmpty() first.
+public class IntArrayDeque {
+
+    int arr[];
+    int head; // index of the first element
+    int size;
+
+    public IntArrayDeque() {
+        this(16);
+    }
+
+    public IntArrayDeque(int initialCapacity) {
+        int cap = 1;
+        while (cap < Math.max(initialCapacity, 2)) {
+            cap <<= 1;
+        }
+        arr = new int[cap];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // double the array, unwrapping the elements to start at index 0
+    private void grow(int minCapacity) {
+        int cap = arr.length;
+        while (cap < minCapacity) {
+            cap <<= 1;
+            if (cap <= 0) {
+                throw new IllegalStateException("deque too large");
+            }
+        }
+        if (cap == arr.length) {
+            return;
+        }
+        int bigger[] = new int[cap];
+        int firstPart = Math.min(size, arr.length - head);
+        System.arraycopy(arr, head, bigger, 0, firstPart);
+        System.arraycopy(arr, 0, bigger, firstPart, size - firstPart);
+        arr = bigger;
+        head = 0;
+    }
+
+    public void addFirst(int val) {
+        if (size == arr.length) {
+            grow(size + 1);
+        }
+        head = (head - 1) & (arr.length - 1);
+        arr[head] = val;
+        size++;
+    }
+
+    public void addLast(int val) {
+        if (size == arr.length) {
+            grow(size + 1);
+        }
+        arr[(head + size) & (arr.length - 1)] = val;
+        size++;
+    }
+
+    // append all values at the back, at most two arraycopy calls
+    public void addAll(int[] vals) {
+        addAll(vals, 0, vals.length);
+    }
+
+    public void addAll(int[] vals, int off, int len) {
+        if (size + len > arr.length) {
+            grow(size + len);
+        }
+        int tail = (head + size) & (arr.length - 1);
+        int firstPart = Math.min(len, arr.length - tail);
+        System.arraycopy(vals, off, arr, tail, firstPart);
+        System.arraycopy(vals, off + firstPart, arr, 0, len - firstPart);
+        size += len;
+    }
+
+    // throws NoSuchElementException when empty
+    public int removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("deque is empty");
+        }
+        int val = arr[head];
+        head = (head + 1) & (arr.length - 1);
+        size--;
+        return val;
+    }
+
+    // throws NoSuchElementException when empty
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("deque is empty");
+        }
+        size--;
+        return arr[(head + size) & (arr.length - 1)];
+    }
+
+    public int getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("deque is empty");
+        }
+        return arr[head];
+    }
+
+    public int getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("deque is empty");
+        }
+        return arr[(head + size - 1) & (arr.length - 1)];
+    }
+
+    public int element() {
+        return getFirst();
+    }
+
+    // i-th element from the front
+    public int get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index " + i + " size " + size);
+        }
+        return arr[(head + i) & (arr.length - 1)];
+    }
+
+    // front to back, no boxing
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (i >= size) {
+                    throw new NoSuchElementException();
+                }
+                return arr[(head + i++) & (arr.length - 1)];
+            }
+        };
+    }
+
+    // ---- in-place transforms ----
+    // These work on the ring array directly through logical indices, so they
+    // allocate nothing and need O(1) extra memory no matter where head is.
+
+    private int at(int i) {
+        return (head + i) & (arr.length - 1);
+    }
+
+    private void swap(int i, int j) {
+        int a = at(i), b = at(j);
+        int temp = arr[a];
+        arr[a] = arr[b];
+        arr[b] = temp;
+    }
+
+    // reverse logical positions [lo, hi)
+    private void reverse(int lo, int hi) {
+        for (hi--; lo < hi; lo++, hi--) {
+            swap(lo, hi);
+        }
+    }
+
+    // front becomes back
+    public void reverse() {
+        reverse(0, size);
+    }
+
+    // rotate logical range [lo, lo+len) left by k, three-reversal trick
+    private void rotateLeft(int lo, int len, int k) {
+        if (len < 2 || k % len == 0) {
+            return;
+        }
+        k %= len;
+        reverse(lo, lo + k);
+        reverse(lo + k, lo + len);
+        reverse(lo, lo + len);
+    }
+
+    // same as k times addLast(removeFirst()); negative k rotates the other way
+    public void rotate(int k) {
+        if (size < 2) {
+            return;
+        }
+        k = ((k % size) + size) % size;
+        if (size == arr.length) {
+            head = (head + k) & (arr.length - 1); // full ring: just move head
+            return;
+        }
+        rotateLeft(0, size, k);
+    }
+
+    // a1..an b1..bn -> b1 a1 b2 a2 ... bn an on logical [off, off+2n)
+    // Peiyush Jain's in-shuffle: cut off the largest prefix of length 2m with
+    // 2m+1 a power of 3, where the permutation i -> 2i mod (2m+1) splits into
+    // cycles led by 1, 3, 9, ...; then repeat on what is left. O(n) time.
+    private void inShuffle(int off, int n) {
+        while (n > 0) {
+            int pow3 = 1;
+            while ((long) pow3 * 3 <= 2L * n + 1) {
+                pow3 *= 3;
+            }
+            int m = (pow3 - 1) / 2;
+
+            // bring b1..bm right after a1..am
+            rotateLeft(off + m, n, n - m);
+
+            // cycle leaders 1, 3, 9, ... (1-indexed) inside the 2m block
+            int mod = 2 * m + 1;
+            for (int leader = 1; leader < mod; leader *= 3) {
+                int j = leader;
+                int carry = arr[at(off + j - 1)];
+                do {
+                    j = (int) (2L * j % mod);
+                    int slot = at(off + j - 1);
+                    int temp = arr[slot];
+                    arr[slot] = carry;
+                    carry = temp;
+                } while (j != leader);
+            }
+
+            off += 2 * m;
+            n -= m;
+        }
+    }
+
+    // Same result as Interleave.interleave's queue version:
+    // first half and second half alternate, first half leading.
+    // For an odd size the extra element (the last one) ends up in front.
+    public void interleaveHalves() {
+        if (size < 2) {
+            return;
+        }
+        int off = 0;
+        if ((size & 1) == 1) {
+            rotate(-1);
+            off = 1;
+        }
+        int half = (size - off) / 2;
+        // out-shuffle a1 b1 a2 b2 ... = keep a1 and bn, in-shuffle the middle
+        inShuffle(off + 1, half - 1);
+    }
+
+    public int[] toArray() {
+        int res[] = new int[size];
+        int firstPart = Math.min(size, arr.length - head);
+        System.arraycopy(arr, head, res, 0, firstPart);
+        System.arraycopy(arr, 0, res, firstPart, size - firstPart);
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(arr[(head + i) & (arr.length - 1)]);
+        }
+        return sb.append(']').toString();
+    }
+
+    public static void main(String[] args) {
+        IntArrayDeque dq = new IntArrayDeque(4);
+        dq.addLast(1);
+        dq.addLast(2);
+        dq.addLast(3);
+        dq.addFirst(4);
+        dq.addFirst(5); // grows to 8
+        dq.addAll(new int[] { 6, 7, 8, 9 }); // grows to 16
+        System.out.println(dq);
+        System.out.println(dq.removeFirst() + " " + dq.removeLast());
+
+        PrimitiveIterator.OfInt it = dq.iterator();
+        long sum = 0;
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        System.out.println("sum = " + sum);
+    }
+}
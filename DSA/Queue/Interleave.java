@@ -1,36 +1,18 @@
 package DSA.Queue;
 
-import java.util.*;
 public class Interleave {
 
-    public static void interleave(Queue<Integer> q) {
-        Queue<Integer> first = new LinkedList<>();
-        int sz = q.size();
-        for(int i=0; i<sz/2; i++) {
-            first.add(q.remove());
-        }
-
-        while(!first.isEmpty()) {
-            q.add(first.remove());
-            q.add(q.remove());
-        }
+    // in place on the deque's ring, no second queue
+    public static void interleave(IntArrayDeque q) {
+        q.interleaveHalves();
     }
     public static void main(String args[]) {
-        Queue<Integer> q = new LinkedList<>();
-        q.add(1);
-        q.add(2);
-        q.add(3);
-        q.add(4);
-        q.add(5);
-        q.add(6);
-        q.add(7);
-        q.add(8);
-        q.add(9);
-        q.add(10);
+        IntArrayDeque q = new IntArrayDeque();
+        q.addAll(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
         interleave(q);
 
         while(!q.isEmpty()) {
-            System.out.print(q.remove()+" ");
+            System.out.print(q.removeFirst()+" ");
         }
         System.out.println();
     }
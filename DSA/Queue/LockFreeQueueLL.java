@@ -0,0 +1,204 @@
+package DSA.Queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Michael-Scott lock-free queue - many producers, many consumers
+// head always points to a dummy node; the first real value is head.next.
+// Every update is a single CAS, so no thread ever waits on a monitor.
+public class LockFreeQueueLL {
+
+    static final class QNode {
+        int data;
+        volatile QNode next;
+
+        QNode(int data) {
+            this.data = data;
+        }
+    }
+
+    volatile QNode head;
+    volatile QNode tail;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup l = MethodHandles.lookup();
+            HEAD = l.findVarHandle(LockFreeQueueLL.class, "head", QNode.class);
+            TAIL = l.findVarHandle(LockFreeQueueLL.class, "tail", QNode.class);
+            NEXT = l.findVarHandle(QNode.class, "next", QNode.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public LockFreeQueueLL() {
+        head = tail = new QNode(0); // dummy
+    }
+
+    boolean isEmpty() {
+        return head.next == null;
+    }
+
+    // Enqueue - link after the real last node, then swing tail
+    void enqueue(int data) {
+        QNode node = new QNode(data);
+        append(node, node);
+    }
+
+    // Enqueue a batch - the nodes are linked privately and published with one CAS
+    void enqueueAll(int[] vals, int off, int len) {
+        if (len <= 0) {
+            return;
+        }
+        QNode first = new QNode(vals[off]);
+        QNode last = first;
+        for (int i = 1; i < len; i++) {
+            QNode node = new QNode(vals[off + i]);
+            last.next = node;
+            last = node;
+        }
+        append(first, last);
+    }
+
+    private void append(QNode first, QNode last) {
+        while (true) {
+            QNode t = tail;
+            QNode n = t.next;
+            if (t != tail) {
+                continue;
+            }
+            if (n == null) {
+                if (NEXT.compareAndSet(t, null, first)) {
+                    TAIL.compareAndSet(this, t, last); // ok to fail, someone helped
+                    return;
+                }
+            } else {
+                // tail is lagging, help it forward
+                TAIL.compareAndSet(this, t, n);
+            }
+        }
+    }
+
+    // Dequeue - returns -1 when empty, like QueueLL.
+    // Use drainTo when -1 is a legal value.
+    int dequeue() {
+        while (true) {
+            QNode h = head;
+            QNode t = tail;
+            QNode n = h.next;
+            if (h != head) {
+                continue;
+            }
+            if (n == null) {
+                return -1;
+            }
+            if (h == t) {
+                TAIL.compareAndSet(this, t, n);
+                continue;
+            }
+            int data = n.data;
+            if (HEAD.compareAndSet(this, h, n)) {
+                return data;
+            }
+        }
+    }
+
+    // Move up to max values into dst, claiming the whole run with one CAS on head.
+    // Returns how many values were copied.
+    int drainTo(int[] dst, int max) {
+        max = Math.min(max, dst.length);
+        while (max > 0) {
+            QNode h = head;
+            QNode t = tail;
+            QNode n = h.next;
+            if (h != head) {
+                continue;
+            }
+            if (n == null) {
+                return 0;
+            }
+            if (h == t) {
+                TAIL.compareAndSet(this, t, n);
+                continue;
+            }
+
+            // read ahead without claiming anything yet
+            int cnt = 0;
+            QNode last = h;
+            QNode curr = n;
+            while (curr != null && cnt < max) {
+                dst[cnt++] = curr.data;
+                last = curr;
+                curr = curr.next;
+            }
+            if (HEAD.compareAndSet(this, h, last)) {
+                // keep tail from falling behind head
+                QNode tt = tail;
+                if (tt != last && last.next == null) {
+                    TAIL.compareAndSet(this, tt, last);
+                }
+                return cnt;
+            }
+        }
+        return 0;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LockFreeQueueLL q = new LockFreeQueueLL();
+        int producers = 4;
+        int perProducer = 250_000;
+        AtomicLong consumedSum = new AtomicLong();
+        AtomicLong consumedCnt = new AtomicLong();
+        long total = (long) producers * perProducer;
+
+        Thread[] threads = new Thread[producers + 2];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                int batch[] = new int[64];
+                for (int i = 0; i < perProducer; i += batch.length) {
+                    int len = Math.min(batch.length, perProducer - i);
+                    for (int j = 0; j < len; j++) {
+                        batch[j] = i + j;
+                    }
+                    q.enqueueAll(batch, 0, len);
+                }
+            });
+        }
+        for (int c = 0; c < 2; c++) {
+            threads[producers + c] = new Thread(() -> {
+                int buf[] = new int[256];
+                while (consumedCnt.get() < total) {
+                    int got = q.drainTo(buf, buf.length);
+                    long s = 0;
+                    for (int i = 0; i < got; i++) {
+                        s += buf[i];
+                    }
+                    consumedSum.addAndGet(s);
+                    consumedCnt.addAndGet(got);
+                    if (got == 0) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        long ms = (System.nanoTime() - start) / 1_000_000;
+
+        long expected = (long) producers * perProducer * (perProducer - 1) / 2;
+        System.out.println("consumed " + consumedCnt.get() + " items in " + ms + " ms");
+        System.out.println("sum ok? " + (consumedSum.get() == expected));
+        System.out.println("empty? " + q.isEmpty() + ", dequeue on empty: " + q.dequeue());
+    }
+}
@@ -0,0 +1,351 @@
+package DSA.Queue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+// Disk-backed FIFO of byte records using memory-mapped segment files.
+//
+// Layout:
+//   index.dat       - [long writePos][long readPos][int segmentSize]
+//   seg-<n>.dat     - records of [int length][length bytes], padded to 4 bytes
+//                     length 0 = not written yet, -1 = continue in the next segment
+// Positions are global: segment number * segmentSize + offset.
+//
+// Appends and polls are plain memory writes into the page cache - no syscall per
+// message. Data survives the process dying; call sync() when you also need it
+// to survive the machine dying. Fully consumed segments are deleted.
+// One writer thread (append*, sync) and one reader thread (poll*, isEmpty) may
+// run at the same time: the writer fills in the payload first and then
+// publishes the length with a release store; the reader loads the length with
+// an acquire load, so a non-zero length means the payload is visible too.
+// Lengths are kept 4-byte aligned for that. Each side maps its own segment
+// buffers and touches only its own fields; close() after both are done.
+public class MappedQueue implements Closeable {
+
+    static final int HEADER = 4;
+    static final int ROLL = -1;
+
+    // int view of a mapped segment, for the release/acquire length word
+    static final VarHandle LEN = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    final Path dir;
+    final int segmentSize;
+    final MappedByteBuffer index;
+
+    // writer side
+    long writePos;
+    MappedByteBuffer wSeg;
+    long wSegNo = -1;
+    // reader side
+    long readPos;
+    MappedByteBuffer rSeg;
+    long rSegNo = -1;
+
+    public MappedQueue(Path dir, int segmentSize) throws IOException {
+        if (segmentSize < 64 || segmentSize % HEADER != 0) {
+            throw new IllegalArgumentException("segment size must be a multiple of 4, at least 64: " + segmentSize);
+        }
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(dir);
+        try (FileChannel ch = FileChannel.open(dir.resolve("index.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            index = ch.map(FileChannel.MapMode.READ_WRITE, 0, 20);
+        }
+        // positions are segNo * segmentSize + offset, so they only mean
+        // something with the segment size they were written with
+        int stored = index.getInt(16);
+        if (stored == 0) {
+            index.putInt(16, segmentSize);
+        } else if (stored != segmentSize) {
+            throw new IllegalArgumentException("queue in " + dir + " was created with segment size "
+                    + stored + ", not " + segmentSize);
+        }
+        writePos = index.getLong(0);
+        readPos = index.getLong(8);
+        recover();
+    }
+
+    // the index is updated after the record, so after a crash it can lag behind.
+    // walk forward over committed records to find the real end.
+    private void recover() {
+        while (true) {
+            MappedByteBuffer seg = writeSegment();
+            int off = offset(writePos);
+            int len = seg.getInt(off);
+            if (len == 0) {
+                break;
+            } else if (len == ROLL) {
+                writePos = (segNo(writePos) + 1) * segmentSize;
+            } else {
+                writePos += HEADER + align(len);
+            }
+        }
+        index.putLong(0, writePos);
+    }
+
+    static int align(int len) {
+        return (len + HEADER - 1) & -HEADER;
+    }
+
+    private long segNo(long pos) {
+        return pos / segmentSize;
+    }
+
+    private int offset(long pos) {
+        return (int) (pos % segmentSize);
+    }
+
+    private Path segPath(long segNo) {
+        return dir.resolve(String.format("seg-%016d.dat", segNo));
+    }
+
+    private MappedByteBuffer map(long segNo) {
+        try (FileChannel ch = FileChannel.open(segPath(segNo),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return ch.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer writeSegment() {
+        long n = segNo(writePos);
+        if (n != wSegNo) {
+            wSeg = map(n);
+            wSegNo = n;
+        }
+        return wSeg;
+    }
+
+    private MappedByteBuffer readSegment() {
+        long n = segNo(readPos);
+        if (n != rSegNo) {
+            rSeg = map(n); // never the writer's buffer
+            rSegNo = n;
+        }
+        return rSeg;
+    }
+
+    // largest record that fits: a segment must hold it plus the roll marker
+    public int maxRecordSize() {
+        return segmentSize - 2 * HEADER;
+    }
+
+    public void append(byte[] src, int off, int len) {
+        if (len <= 0 || len > maxRecordSize()) {
+            throw new IllegalArgumentException("record size out of range: " + len);
+        }
+        MappedByteBuffer seg = writeSegment();
+        int o = offset(writePos);
+        // always leave room for a roll marker after the record
+        if (o + HEADER + align(len) > segmentSize - HEADER) {
+            seg = roll(seg, o);
+            o = 0;
+        }
+        seg.put(o + HEADER, src, off, len);
+        LEN.setRelease(seg, o, len); // the length commits the record
+        writePos += HEADER + align(len);
+        index.putLong(0, writePos);
+    }
+
+    public void append(byte[] src) {
+        append(src, 0, src.length);
+    }
+
+    // mark the rest of this segment as skipped and move to the next one
+    private MappedByteBuffer roll(MappedByteBuffer seg, int o) {
+        LEN.setRelease(seg, o, ROLL);
+        writePos = (segNo(writePos) + 1) * segmentSize;
+        return writeSegment();
+    }
+
+    public void appendInt(int val) {
+        MappedByteBuffer seg = writeSegment();
+        int o = offset(writePos);
+        if (o + 2 * HEADER > segmentSize - HEADER) {
+            seg = roll(seg, o);
+            o = 0;
+        }
+        seg.putInt(o + HEADER, val);
+        LEN.setRelease(seg, o, 4);
+        writePos += 2 * HEADER;
+        index.putLong(0, writePos);
+    }
+
+    // length of the next record, or 0 if there is none yet. Skips roll markers.
+    private int nextLength() {
+        while (true) {
+            MappedByteBuffer seg = readSegment();
+            int len = (int) LEN.getAcquire(seg, offset(readPos));
+            if (len != ROLL) {
+                return len;
+            }
+            long done = rSegNo;
+            readPos = (done + 1) * segmentSize;
+            index.putLong(8, readPos);
+            rSeg = null;
+            rSegNo = -1;
+            try {
+                Files.deleteIfExists(segPath(done));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // next record, or null if the queue is empty
+    public byte[] poll() {
+        int len = nextLength();
+        if (len == 0) {
+            return null;
+        }
+        byte res[] = new byte[len];
+        rSeg.get(offset(readPos) + HEADER, res);
+        readPos += HEADER + align(len);
+        index.putLong(8, readPos);
+        return res;
+    }
+
+    // next 4-byte record as an int; check isEmpty() first
+    public int pollInt() {
+        int len = nextLength();
+        if (len != 4) {
+            throw new IllegalStateException(len == 0 ? "queue is empty" : "record is not an int");
+        }
+        int val = rSeg.getInt(offset(readPos) + HEADER);
+        readPos += 2 * HEADER;
+        index.putLong(8, readPos);
+        return val;
+    }
+
+    public boolean isEmpty() {
+        return nextLength() == 0;
+    }
+
+    // flush dirty pages to disk
+    public void sync() {
+        if (wSeg != null) {
+            wSeg.force();
+        }
+        index.force();
+    }
+
+    @Override
+    public void close() {
+        sync();
+        wSeg = rSeg = null;
+        wSegNo = rSegNo = -1;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("mappedqueue");
+        int total = 1_000_000;
+
+        long start = System.nanoTime();
+        try (MappedQueue q = new MappedQueue(dir, 1 << 20)) {
+            for (int i = 0; i < total; i++) {
+                q.appendInt(i);
+            }
+        }
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("appended " + total + " ints in " + ms + " ms");
+
+        // "restart": read half, close, reopen, read the rest
+        long sum = 0;
+        int got = 0;
+        try (MappedQueue q = new MappedQueue(dir, 1 << 20)) {
+            for (int i = 0; i < total / 2; i++) {
+                sum += q.pollInt();
+                got++;
+            }
+        }
+        try (MappedQueue q = new MappedQueue(dir, 1 << 20)) {
+            q.append("hello after restart".getBytes());
+            while (!q.isEmpty()) {
+                byte rec[] = q.poll();
+                if (rec.length == 4) {
+                    sum += ((rec[0] & 0xff) << 24 | (rec[1] & 0xff) << 16 | (rec[2] & 0xff) << 8 | (rec[3] & 0xff));
+                    got++;
+                } else {
+                    System.out.println("last record: " + new String(rec));
+                }
+            }
+        }
+        System.out.println("replayed " + got + ", sum ok? " + (sum == (long) total * (total - 1) / 2));
+
+        try (MappedQueue q = new MappedQueue(dir, 1 << 16)) {
+            System.out.println("reopened with another segment size?!");
+        } catch (IllegalArgumentException e) {
+            System.out.println("rejected: " + e.getMessage());
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            System.out.println("files left: " + files.count()); // index + current segment
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path f : (Iterable<Path>) files::iterator) {
+                Files.delete(f);
+            }
+        }
+        Files.delete(dir);
+
+        // one writer thread and one reader thread on the same queue
+        Path live = Files.createTempDirectory("mappedqueue");
+        try (MappedQueue q = new MappedQueue(live, 1 << 16)) {
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < total; i++) {
+                    if (i % 3 == 0) {
+                        q.append(new byte[] { (byte) i, 1, 2 }); // odd size, padded
+                    } else {
+                        q.appendInt(i);
+                    }
+                }
+            });
+            writer.start();
+            long seen = 0;
+            int next = 0;
+            boolean inOrder = true;
+            while (next < total) {
+                if (next % 3 == 0) {
+                    byte rec[] = q.poll();
+                    if (rec == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    inOrder &= rec.length == 3 && rec[0] == (byte) next;
+                } else {
+                    if (q.isEmpty()) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    inOrder &= q.pollInt() == next;
+                }
+                seen++;
+                next++;
+            }
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            System.out.println("concurrent: read " + seen + " records, in order? " + inOrder);
+        }
+        try (Stream<Path> files = Files.list(live)) {
+            for (Path f : (Iterable<Path>) files::iterator) {
+                Files.delete(f);
+            }
+        }
+        Files.delete(live);
+    }
+}
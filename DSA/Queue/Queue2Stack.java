@@ -1,49 +1,149 @@
 package DSA.Queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Stack;
 
 public class Queue2Stack {
 
+    // two primitive array stacks, no Vector locking and no boxing
+    int s1[] = new int[16]; // in-stack, newest on top
+    int top1 = 0;
+    int s2[] = new int[16]; // out-stack, oldest on top
+    int top2 = 0;
+    QueueListener listener = QueueListener.NONE;
 
-    Stack<Integer> s1 = new Stack<>();
-    Stack<Integer> s2 = new Stack<>();
+    void setListener(QueueListener listener) {
+        this.listener = listener;
+    }
+
+    boolean isEmpty() {
+        return top1 == 0 && top2 == 0;
+    }
 
     // Enqueue
     void enqueue(int x) {
-        s1.push(x);
-        System.out.println(x + " enqueued");
+        if (top1 == s1.length) {
+            s1 = java.util.Arrays.copyOf(s1, s1.length * 2);
+        }
+        s1[top1++] = x;
+        listener.onEnqueue(x);
+    }
+
+    // move all of s1 into s2 in one go: one arraycopy, then reverse in place
+    // so the oldest element ends up on top. Only called when s2 is empty.
+    private void transfer() {
+        if (s2.length < top1) {
+            s2 = new int[s1.length];
+        }
+        System.arraycopy(s1, 0, s2, 0, top1);
+        for (int i = 0, j = top1 - 1; i < j; i++, j--) {
+            int temp = s2[i];
+            s2[i] = s2[j];
+            s2[j] = temp;
+        }
+        top2 = top1;
+        top1 = 0;
     }
 
-    // Dequeue
+    // Dequeue - returns -1 if the queue is empty
     int dequeue() {
-        if (s2.isEmpty()) {
-            if (s1.isEmpty()) {
-                System.out.println("Queue is empty");
+        if (top2 == 0) {
+            if (top1 == 0) {
+                listener.onUnderflow();
                 return -1;
             }
-            while (!s1.isEmpty()) {
-                s2.push(s1.pop());
-            }
+            transfer();
         }
-        return s2.pop();
+        int x = s2[--top2];
+        listener.onDequeue(x);
+        return x;
     }
 
+    // Peek - returns -1 if the queue is empty
     int peek() {
-        if (s2.isEmpty()) {
-            if (s1.isEmpty()) {
-                System.out.println("Queue is empty");
+        if (top2 == 0) {
+            if (top1 == 0) {
+                listener.onUnderflow();
                 return -1;
             }
-            while (!s1.isEmpty()) {
-                s2.push(s1.pop());
-            }
+            transfer();
         }
-        return s2.peek();
+        return s2[top2 - 1];
     }
 
+    // Concurrent mode: one producer thread, one consumer thread, no locks.
+    // The producer fills an int[] chunk (its "stack") and the consumer reads a
+    // chunk once the producer has published how far it got. Full chunks are
+    // handed over as a whole via the next link, so the transfer is batched just
+    // like s1 -> s2 above. Each index is written by exactly one thread.
+    static class SpscQueue {
+        static final int CHUNK = 1024;
+
+        static final class Chunk {
+            final int vals[] = new int[CHUNK];
+            volatile int written; // set by the producer only
+            volatile Chunk next;
+        }
+
+        private static final VarHandle WRITTEN;
+
+        static {
+            try {
+                WRITTEN = MethodHandles.lookup().findVarHandle(Chunk.class, "written", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        Chunk writeChunk = new Chunk(); // producer only
+        Chunk readChunk = writeChunk;   // consumer only
+        int readIdx = 0;                // consumer only
 
+        // producer
+        void enqueue(int x) {
+            Chunk c = writeChunk;
+            int w = c.written;
+            if (w == CHUNK) {
+                Chunk n = new Chunk();
+                c.next = n;
+                writeChunk = c = n;
+                w = 0;
+            }
+            c.vals[w] = x;
+            WRITTEN.setRelease(c, w + 1);
+        }
 
-    public static void main(String[] args) {
+        // consumer - copies up to max available values, returns the count
+        int drainTo(int dst[], int max) {
+            int n = 0;
+            while (n < max) {
+                Chunk c = readChunk;
+                if (readIdx == CHUNK) {
+                    Chunk next = c.next;
+                    if (next == null) {
+                        break;
+                    }
+                    readChunk = c = next;
+                    readIdx = 0;
+                }
+                int avail = (int) WRITTEN.getAcquire(c) - readIdx;
+                if (avail <= 0) {
+                    break;
+                }
+                int len = Math.min(avail, max - n);
+                System.arraycopy(c.vals, readIdx, dst, n, len);
+                readIdx += len;
+                n += len;
+            }
+            return n;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
         Queue2Stack q = new Queue2Stack();
+        QueueCounters counters = new QueueCounters();
+        q.setListener(counters);
         q.enqueue(10);
         q.enqueue(20);
         q.enqueue(30);
@@ -53,7 +153,66 @@ public class Queue2Stack {
         System.out.println("Dequeued: " + q.dequeue());
         System.out.println("Dequeued: " + q.dequeue());
         System.out.println("Dequeued: " + q.dequeue()); // empty
-    }
-}
+        System.out.println(counters);
+
+        // primitive arrays vs java.util.Stack, same access pattern
+        int n = 5_000_000;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            Queue2Stack fast = new Queue2Stack();
+            long sum1 = 0;
+            for (int i = 0; i < n; i++) {
+                fast.enqueue(i);
+                if ((i & 3) == 3) {
+                    sum1 += fast.dequeue() + fast.dequeue();
+                }
+            }
+            long fastMs = (System.nanoTime() - start) / 1_000_000;
 
+            start = System.nanoTime();
+            Stack<Integer> in = new Stack<>();
+            Stack<Integer> out = new Stack<>();
+            long sum2 = 0;
+            for (int i = 0; i < n; i++) {
+                in.push(i);
+                if ((i & 3) == 3) {
+                    for (int k = 0; k < 2; k++) {
+                        if (out.isEmpty()) {
+                            while (!in.isEmpty()) {
+                                out.push(in.pop());
+                            }
+                        }
+                        sum2 += out.pop();
+                    }
+                }
+            }
+            long stackMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("int[] stacks: " + fastMs + " ms, java.util.Stack: " + stackMs
+                    + " ms, same result? " + (sum1 == sum2));
+        }
 
+        // concurrent mode
+        SpscQueue spsc = new SpscQueue();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < n; i++) {
+                spsc.enqueue(i);
+            }
+        });
+        producer.start();
+        int buf[] = new int[4096];
+        long sum = 0;
+        int got = 0;
+        while (got < n) {
+            int k = spsc.drainTo(buf, buf.length);
+            for (int i = 0; i < k; i++) {
+                sum += buf[i];
+            }
+            got += k;
+            if (k == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        System.out.println("SPSC: received " + got + ", sum ok? " + (sum == (long) n * (n - 1) / 2));
+    }
+}
@@ -4,6 +4,7 @@ class QueueArray {
     int front, rear, size;
     int capacity;
     int arr[];
+    QueueListener listener = QueueListener.NONE;
 
     public QueueArray(int capacity) {
         this.capacity = capacity;
@@ -13,34 +14,40 @@ class QueueArray {
         rear = capacity - 1;
     }
 
-    // Enqueue
-    void enqueue(int item) {
+    void setListener(QueueListener listener) {
+        this.listener = listener;
+    }
+
+    // Enqueue - returns false if the queue is full
+    boolean enqueue(int item) {
         if (size == capacity) {
-            System.out.println("Queue is full");
-            return;
+            listener.onOverflow(item);
+            return false;
         }
         rear = (rear + 1) % capacity;
         arr[rear] = item;
         size++;
-        System.out.println(item + " enqueued to queue");
+        listener.onEnqueue(item);
+        return true;
     }
 
-    // Dequeue
+    // Dequeue - returns -1 if the queue is empty
     int dequeue() {
         if (size == 0) {
-            System.out.println("Queue is empty");
+            listener.onUnderflow();
             return -1;
         }
         int item = arr[front];
         front = (front + 1) % capacity;
         size--;
+        listener.onDequeue(item);
         return item;
     }
 
-    // Peek
+    // Peek - returns -1 if the queue is empty
     int peek() {
         if (size == 0) {
-            System.out.println("Queue is empty");
+            listener.onUnderflow();
             return -1;
         }
         return arr[front];
@@ -67,6 +74,8 @@ class QueueArray {
 
     public static void main(String[] args) {
         QueueArray q= new QueueArray(5); // capacity = 5
+        QueueCounters counters = new QueueCounters();
+        q.setListener(counters);
 
         // Enqueue elements
         q.enqueue(10);
@@ -78,7 +87,7 @@ class QueueArray {
         q.printQueue();
 
         // Trying to insert when queue is full
-        q.enqueue(60); // should print "Queue is full"
+        System.out.println("enqueue 60: " + q.enqueue(60)); // false, queue is full
 
         // Peek the front element
         System.out.println("Front element: " + q.peek());
@@ -106,6 +115,7 @@ class QueueArray {
         System.out.println("Is queue empty? " + q.isEmpty());
 
         // Try dequeue on empty queue
-        q.dequeue();
+        System.out.println("dequeue on empty: " + q.dequeue());
+        System.out.println(counters);
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package DSA.Queue;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// QueueListener that only counts - safe to share between queues and threads.
+// rates() reports ops/second since the previous call.
+public class QueueCounters implements QueueListener {
+
+    final LongAdder enqueued = new LongAdder();
+    final LongAdder dequeued = new LongAdder();
+    final LongAdder overflows = new LongAdder();
+    final LongAdder underflows = new LongAdder();
+
+    private long lastNanos = System.nanoTime();
+    private long lastEnq;
+    private long lastDeq;
+
+    @Override
+    public void onEnqueue(int item) {
+        enqueued.increment();
+    }
+
+    @Override
+    public void onDequeue(int item) {
+        dequeued.increment();
+    }
+
+    @Override
+    public void onOverflow(int item) {
+        overflows.increment();
+    }
+
+    @Override
+    public void onUnderflow() {
+        underflows.increment();
+    }
+
+    public long enqueued() {
+        return enqueued.sum();
+    }
+
+    public long dequeued() {
+        return dequeued.sum();
+    }
+
+    // rejected operations = enqueue on full + dequeue/peek on empty
+    public long rejected() {
+        return overflows.sum() + underflows.sum();
+    }
+
+    // {enqueue/s, dequeue/s} since the last call
+    public synchronized double[] rates() {
+        long now = System.nanoTime();
+        long enq = enqueued.sum();
+        long deq = dequeued.sum();
+        double secs = Math.max(now - lastNanos, 1) / 1e9;
+        double res[] = { (enq - lastEnq) / secs, (deq - lastDeq) / secs };
+        lastNanos = now;
+        lastEnq = enq;
+        lastDeq = deq;
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return "enqueued=" + enqueued() + " dequeued=" + dequeued()
+                + " overflows=" + overflows.sum() + " underflows=" + underflows.sum();
+    }
+}
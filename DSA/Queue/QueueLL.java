@@ -15,11 +15,16 @@ class Node {
 // Queue class
 class QueueLL {
     Node head, tail;
+    QueueListener listener = QueueListener.NONE;
 
     public QueueLL() {
         head = tail = null;
     }
 
+    void setListener(QueueListener listener) {
+        this.listener = listener;
+    }
+
     // Check if queue is empty
     boolean isEmpty() {
         return head == null;
@@ -30,18 +35,17 @@ class QueueLL {
         Node newNode = new Node(data);
         if (tail == null) { // Empty queue
             head = tail = newNode;
-            System.out.println(data + " enqueued");
-            return;
+        } else {
+            tail.next = newNode;
+            tail = newNode;
         }
-        tail.next = newNode;
-        tail = newNode;
-        System.out.println(data + " enqueued");
+        listener.onEnqueue(data);
     }
 
-    // Dequeue (remove from head)
+    // Dequeue (remove from head) - returns -1 if the queue is empty
     int dequeue() {
         if (isEmpty()) {
-            System.out.println("Queue is empty");
+            listener.onUnderflow();
             return -1;
         }
         int data = head.data;
@@ -49,13 +53,14 @@ class QueueLL {
         if (head == null) { // Queue became empty
             tail = null;
         }
+        listener.onDequeue(data);
         return data;
     }
 
-    // Peek front element
+    // Peek front element - returns -1 if the queue is empty
     int peek() {
         if (isEmpty()) {
-            System.out.println("Queue is empty");
+            listener.onUnderflow();
             return -1;
         }
         return head.data;
@@ -78,6 +83,8 @@ class QueueLL {
 
     public static void main(String[] args) {
         QueueLL q = new QueueLL();
+        QueueCounters counters = new QueueCounters();
+        q.setListener(counters);
 
         // Enqueue elements
         q.enqueue(10);
@@ -99,6 +106,7 @@ class QueueLL {
         q.dequeue(); // Queue empty
 
         q.printQueue(); // Queue is empty
+        System.out.println(counters);
     }
 
 }
@@ -0,0 +1,25 @@
+package DSA.Queue;
+
+// Hooks for the array/linked queues in this package.
+// Queues call these instead of printing, so the default (NONE) costs nothing
+// but a virtual call. Plug in QueueCounters, or your own logger, when you
+// want to see what a queue is doing.
+public interface QueueListener {
+
+    QueueListener NONE = new QueueListener() {
+    };
+
+    default void onEnqueue(int item) {
+    }
+
+    default void onDequeue(int item) {
+    }
+
+    // enqueue on a full queue
+    default void onOverflow(int item) {
+    }
+
+    // dequeue/peek on an empty queue
+    default void onUnderflow() {
+    }
+}
@@ -1,32 +1,24 @@
 package DSA.Queue;
 
-import java.util.*;
-
 public class Reversal {
-    public static void reverse(Queue<Integer> q) {
-        Stack<Integer> s = new Stack<>();
-
-        while(!q.isEmpty()) {
-            s.push(q.remove());
-        }
+    // in place on the deque's ring, no stack
+    public static void reverse(IntArrayDeque q) {
+        q.reverse();
+    }
 
-        while(!s.isEmpty()) {
-            q.add(s.pop());
-        }
+    // k times remove-from-front, add-to-back
+    public static void rotate(IntArrayDeque q, int k) {
+        q.rotate(k);
     }
     public static void main(String args[]) {
-        Queue<Integer> q = new LinkedList<>();
-        q.add(1);
-        q.add(2);
-        q.add(3);
-        q.add(4);
-        q.add(5);
+        IntArrayDeque q = new IntArrayDeque();
+        q.addAll(new int[] { 1, 2, 3, 4, 5 });
 
         reverse(q);
 
         while(!q.isEmpty()) {
-            System.out.print(q.remove()+" ");
+            System.out.print(q.removeFirst()+" ");
         }
         System.out.println();
     }
-}
\ No newline at end of file
+}
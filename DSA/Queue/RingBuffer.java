@@ -0,0 +1,348 @@
+package DSA.Queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+
+// Disruptor-style ring buffer of ints - one consumer, one or many producers
+// Differences from CircularQueueArray:
+//  - capacity is a power of two, so index = sequence & mask (no %)
+//  - producer and consumer each own padded counters (shared Sequences and
+//    thread-local Locals) instead of sharing front/rear/size, so they never
+//    write the same cache line; a single producer caches the consumer's
+//    sequence and only re-reads it when the ring looks full
+//  - sequences only grow; "full" is next - capacity > consumer sequence
+public class RingBuffer {
+
+    // ---- padded sequence ----
+    // 7 longs on each side keep value alone on its 64-byte cache line
+    static class LhsPadding {
+        long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    static class Value extends LhsPadding {
+        volatile long value;
+    }
+
+    static class RhsPadding extends Value {
+        long p9, p10, p11, p12, p13, p14, p15;
+    }
+
+    static final class Sequence extends RhsPadding {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Value.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        Sequence(long initial) {
+            value = initial;
+        }
+
+        long get() {
+            return value;
+        }
+
+        // release store - cheaper than a full volatile write
+        void set(long v) {
+            VALUE.setRelease(this, v);
+        }
+
+        boolean compareAndSet(long expect, long update) {
+            return VALUE.compareAndSet(this, expect, update);
+        }
+    }
+
+    // ---- padded thread-local counters ----
+    // Plain (non-volatile) fields owned by one side, padded the same way so the
+    // producer's and the consumer's counters never share a cache line with each
+    // other or with the read-mostly fields (arr, mask, capacity).
+    static class LocalLhs {
+        long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    static class LocalFields extends LocalLhs {
+        long seq;    // producer: last claimed sequence; consumer: next sequence to read
+        long cached; // producer: last consumer sequence seen (gating cache)
+    }
+
+    static final class Local extends LocalFields {
+        long p9, p10, p11, p12, p13, p14, p15;
+
+        Local(long seq, long cached) {
+            this.seq = seq;
+            this.cached = cached;
+        }
+    }
+
+    // ---- wait strategies ----
+    public interface WaitStrategy {
+        // called in a loop while the condition is not met
+        void idle(int attempt);
+    }
+
+    // lowest latency, burns a core
+    public static final WaitStrategy BUSY_SPIN = attempt -> Thread.onSpinWait();
+
+    // spin a little, then give the core away
+    public static final WaitStrategy YIELD = attempt -> {
+        if (attempt < 100) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    };
+
+    // spin, yield, then sleep - for threads that are often idle
+    public static final WaitStrategy PARK = attempt -> {
+        if (attempt < 100) {
+            Thread.onSpinWait();
+        } else if (attempt < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(1_000L);
+        }
+    };
+
+    public enum ProducerType { SINGLE, MULTI }
+
+    final int arr[];
+    final int mask;
+    final int capacity;
+    final ProducerType type;
+    final WaitStrategy producerWait;
+    final WaitStrategy consumerWait;
+
+    // SINGLE: last claimed sequence and cached consumer sequence, producer thread only
+    final Local producer = new Local(-1, -1);
+    // MULTI: last claimed sequence, shared by producers
+    final Sequence claimed = new Sequence(-1);
+    // SINGLE: highest published sequence
+    final Sequence cursor = new Sequence(-1);
+    // MULTI: round number each slot was last published in, per slot
+    final int available[];
+    // last sequence the consumer has finished with
+    final Sequence consumed = new Sequence(-1);
+    // consumer-private: next sequence to read
+    final Local consumer = new Local(0, 0);
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    public RingBuffer(int capacity, ProducerType type, WaitStrategy producerWait, WaitStrategy consumerWait) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.arr = new int[capacity];
+        this.type = type;
+        this.producerWait = producerWait;
+        this.consumerWait = consumerWait;
+        if (type == ProducerType.MULTI) {
+            available = new int[capacity];
+            for (int i = 0; i < capacity; i++) {
+                available[i] = -1;
+            }
+        } else {
+            available = null;
+        }
+    }
+
+    public RingBuffer(int capacity) {
+        this(capacity, ProducerType.SINGLE, YIELD, YIELD);
+    }
+
+    // ---- producer side ----
+
+    // claim n slots and return the highest claimed sequence; waits while the ring is full
+    long next(int n) {
+        if (n < 1 || n > capacity) {
+            throw new IllegalArgumentException("batch size out of range: " + n);
+        }
+        if (type == ProducerType.SINGLE) {
+            long hi = producer.seq + n;
+            long wrapPoint = hi - capacity;
+            // only read the consumer's sequence when the cached one says "full"
+            if (wrapPoint > producer.cached) {
+                waitForSpace(hi);
+                producer.cached = consumed.get();
+            }
+            producer.seq = hi;
+            return hi;
+        }
+        while (true) {
+            long curr = claimed.get();
+            long hi = curr + n;
+            if (hi - capacity > consumed.get()) {
+                waitForSpace(hi);
+                continue;
+            }
+            if (claimed.compareAndSet(curr, hi)) {
+                return hi;
+            }
+        }
+    }
+
+    private void waitForSpace(long hi) {
+        long wrapPoint = hi - capacity;
+        int attempt = 0;
+        while (wrapPoint > consumed.get()) {
+            producerWait.idle(attempt++);
+        }
+    }
+
+    // make sequences lo..hi visible to the consumer
+    void publish(long lo, long hi) {
+        if (type == ProducerType.SINGLE) {
+            cursor.set(hi);
+            return;
+        }
+        for (long s = lo; s <= hi; s++) {
+            AVAILABLE.setRelease(available, (int) (s & mask), (int) (s >>> Integer.numberOfTrailingZeros(capacity)));
+        }
+    }
+
+    public void publish(int value) {
+        long s = next(1);
+        arr[(int) (s & mask)] = value;
+        publish(s, s);
+    }
+
+    // copy len values in claims of at most capacity slots, one publish per claim
+    public void publishBatch(int[] src, int off, int len) {
+        while (len > 0) {
+            int n = Math.min(len, capacity);
+            long hi = next(n);
+            long lo = hi - n + 1;
+            for (long s = lo; s <= hi; s++) {
+                arr[(int) (s & mask)] = src[off++];
+            }
+            publish(lo, hi);
+            len -= n;
+        }
+    }
+
+    // ---- consumer side (single consumer) ----
+
+    // highest sequence >= consumer.seq that is safe to read, or consumer.seq-1 if none
+    private long highestPublished() {
+        if (type == ProducerType.SINGLE) {
+            return cursor.get();
+        }
+        long upTo = claimed.get();
+        int shift = Integer.numberOfTrailingZeros(capacity);
+        for (long s = consumer.seq; s <= upTo; s++) {
+            int round = (int) AVAILABLE.getAcquire(available, (int) (s & mask));
+            if (round != (int) (s >>> shift)) {
+                return s - 1;
+            }
+        }
+        return upTo;
+    }
+
+    // copy up to max published values into dst without waiting, returns the count
+    public int poll(int[] dst, int max) {
+        long avail = highestPublished();
+        long next = consumer.seq;
+        if (avail < next) {
+            return 0;
+        }
+        int n = (int) Math.min(Math.min(avail - next + 1, max), dst.length);
+        for (int i = 0; i < n; i++) {
+            dst[i] = arr[(int) ((next + i) & mask)];
+        }
+        consumer.seq = next + n;
+        consumed.set(next + n - 1); // one release store per batch frees the slots
+        return n;
+    }
+
+    // like poll, but waits with the consumer wait strategy until something arrives
+    public int take(int[] dst, int max) {
+        int attempt = 0;
+        while (true) {
+            int n = poll(dst, max);
+            if (n > 0) {
+                return n;
+            }
+            consumerWait.idle(attempt++);
+        }
+    }
+
+    // is sequence s published? checks just that one slot
+    private boolean published(long s) {
+        if (type == ProducerType.SINGLE) {
+            return cursor.get() >= s;
+        }
+        int round = (int) AVAILABLE.getAcquire(available, (int) (s & mask));
+        return round == (int) (s >>> Integer.numberOfTrailingZeros(capacity));
+    }
+
+    // single value, no array: wait for the next slot and read it in place
+    public int take() {
+        int attempt = 0;
+        while (!published(consumer.seq)) {
+            consumerWait.idle(attempt++);
+        }
+        int value = arr[(int) (consumer.seq & mask)];
+        consumed.set(consumer.seq++);
+        return value;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        run("SPSC busy-spin", 1, new RingBuffer(1 << 14, ProducerType.SINGLE, BUSY_SPIN, BUSY_SPIN), false);
+        run("SPSC yield    ", 1, new RingBuffer(1 << 14, ProducerType.SINGLE, YIELD, YIELD), false);
+        run("MPSC park     ", 3, new RingBuffer(1 << 14, ProducerType.MULTI, PARK, PARK), false);
+        run("SPSC take()   ", 1, new RingBuffer(1 << 14, ProducerType.SINGLE, YIELD, YIELD), true);
+        run("MPSC take()   ", 3, new RingBuffer(1 << 14, ProducerType.MULTI, YIELD, YIELD), true);
+    }
+
+    static void run(String name, int producers, RingBuffer rb, boolean single) throws InterruptedException {
+        int perProducer = 10_000_000 / producers;
+        long total = (long) perProducer * producers;
+
+        Thread[] ps = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            ps[p] = new Thread(() -> {
+                int batch[] = new int[128];
+                for (int i = 0; i < perProducer; i += batch.length) {
+                    int len = Math.min(batch.length, perProducer - i);
+                    for (int j = 0; j < len; j++) {
+                        batch[j] = i + j;
+                    }
+                    rb.publishBatch(batch, 0, len);
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread t : ps) {
+            t.start();
+        }
+        long sum = 0;
+        long got = 0;
+        int buf[] = new int[1024];
+        while (single && got < total) {
+            sum += rb.take();
+            got++;
+        }
+        while (got < total) {
+            int n = rb.take(buf, buf.length);
+            for (int i = 0; i < n; i++) {
+                sum += buf[i];
+            }
+            got += n;
+        }
+        for (Thread t : ps) {
+            t.join();
+        }
+        long ns = System.nanoTime() - start;
+
+        long expected = (long) producers * perProducer * (perProducer - 1) / 2;
+        System.out.printf("%s: %,d handoffs, %.1f M/s, sum ok? %b%n",
+                name, got, got * 1000.0 / ns, sum == expected);
+    }
+}
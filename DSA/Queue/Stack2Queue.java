@@ -5,50 +5,89 @@ import java.util.Queue;
 
 public class Stack2Queue {
 
-    Queue<Integer> q1 = new LinkedList<>();
-    Queue<Integer> q2 = new LinkedList<>();
+    // A deque-backed stack, not a stack built from queues: push adds at the
+    // back of an IntArrayDeque and pop takes from the back again, so both are
+    // O(1) with no copying. Only using queue operations (add at one end, take
+    // from the other) makes push or pop O(n) - see TwoQueueStack below, which
+    // is that construction and is kept for the benchmark in main.
+    IntArrayDeque ring = new IntArrayDeque();
 
     // Push element
     void push(int x) {
-        // Enqueue into q2
-        q2.add(x);
-
-        // Move all elements from q1 to q2
-        while (!q1.isEmpty()) {
-            q2.add(q1.remove());
-        }
-
-        // Now q2 has all elements, make q2 as q1
-        while (!q2.isEmpty()) {
-            q1.add(q2.remove());
-        }
-
-        System.out.println(x + " pushed");
+        ring.addLast(x);
     }
 
-    // Pop element
+    // Pop element - returns -1 if the stack is empty
     int pop() {
-        if (q1.isEmpty()) {
-            System.out.println("Stack is empty");
+        if (ring.isEmpty()) {
             return -1;
         }
-        return q1.remove();
+        return ring.removeLast();
     }
 
-    // Peek top element
+    // Peek top element - returns -1 if the stack is empty
     int top() {
-        if (q1.isEmpty()) {
-            System.out.println("Stack is empty");
+        if (ring.isEmpty()) {
             return -1;
         }
-        return q1.peek();
+        return ring.getLast();
     }
 
     boolean isEmpty() {
-        return q1.isEmpty();
+        return ring.isEmpty();
+    }
+
+    int size() {
+        return ring.size();
+    }
+
+    // Stack on two queues (the previous version), kept for the benchmark below:
+    // every push moves the whole stack through q2, so n pushes are O(n^2).
+    static class TwoQueueStack {
+        Queue<Integer> q1 = new LinkedList<>();
+        Queue<Integer> q2 = new LinkedList<>();
+
+        void push(int x) {
+            q2.add(x);
+            while (!q1.isEmpty()) {
+                q2.add(q1.remove());
+            }
+            while (!q2.isEmpty()) {
+                q1.add(q2.remove());
+            }
+        }
+
+        int pop() {
+            return q1.isEmpty() ? -1 : q1.remove();
+        }
     }
 
+    static long timeRing(int n) {
+        long start = System.nanoTime();
+        Stack2Queue s = new Stack2Queue();
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            s.push(i);
+        }
+        while (!s.isEmpty()) {
+            sum += s.pop();
+        }
+        if (sum != (long) n * (n - 1) / 2) {
+            throw new AssertionError("bad sum");
+        }
+        return System.nanoTime() - start;
+    }
 
+    static long timeTwoQueue(int n) {
+        long start = System.nanoTime();
+        TwoQueueStack s = new TwoQueueStack();
+        for (int i = 0; i < n; i++) {
+            s.push(i);
+        }
+        while (s.pop() != -1) {
+        }
+        return System.nanoTime() - start;
+    }
 
     public static void main(String[] args) {
         Stack2Queue s = new Stack2Queue();
@@ -61,7 +100,25 @@ public class Stack2Queue {
         System.out.println("Popped: " + s.pop());   // 30
         System.out.println("Popped: " + s.pop());   // 20
         System.out.println("Popped: " + s.pop());   // 10
-        System.out.println("Popped: " + s.pop());   // Stack is empty
+        System.out.println("Popped: " + s.pop());   // -1, stack is empty
+
+        // Benchmark: the two-queue version is quadratic, so it is timed at small n
+        // and extrapolated to 10^6 as t(n) * (10^6 / n)^2.
+        timeRing(1_000_000); // warm up
+        int big = 1_000_000;
+        double ringMs = timeRing(big) / 1e6;
+        System.out.printf("ring stack,  n=%,d: %.1f ms%n", big, ringMs);
+
+        double lastMs = 0;
+        int lastN = 0;
+        for (int n = 2_000; n <= 16_000; n *= 2) {
+            lastMs = timeTwoQueue(n) / 1e6;
+            lastN = n;
+            System.out.printf("two queues,  n=%,d: %.1f ms%n", n, lastMs);
+        }
+        double ratio = (double) big / lastN;
+        double projected = lastMs * ratio * ratio;
+        System.out.printf("two queues,  n=%,d: ~%.0f s projected (%.0fx slower)%n",
+                big, projected / 1000, projected / ringMs);
     }
 }
-
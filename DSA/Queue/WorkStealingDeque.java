@@ -0,0 +1,104 @@
+package DSA.Queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Chase-Lev work-stealing deque
+// The owner thread pushes and pops at the bottom (LIFO, no CAS unless it races
+// for the last element); other threads steal from the top (FIFO) with one CAS.
+// The array grows when full; only the owner ever writes tasks into it.
+// Taken slots are cleared (by the owner after a pop, by the winning thief with a
+// CAS on the slot after a steal) so finished tasks and whatever they reference
+// don't stay reachable from the deque.
+public class WorkStealingDeque<T> {
+
+    volatile long top;
+    volatile long bottom;
+    volatile Object[] arr;
+
+    private static final VarHandle TOP;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(WorkStealingDeque.class, "top", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public WorkStealingDeque() {
+        arr = new Object[64];
+    }
+
+    public int size() {
+        return (int) Math.max(bottom - top, 0);
+    }
+
+    // owner only
+    public void push(T task) {
+        long b = bottom;
+        long t = top;
+        Object[] a = arr;
+        if (b - t >= a.length - 1) {
+            a = grow(a, t, b);
+        }
+        SLOT.setRelease(a, (int) (b & (a.length - 1)), task);
+        bottom = b + 1;
+    }
+
+    private Object[] grow(Object[] old, long t, long b) {
+        Object[] bigger = new Object[old.length * 2];
+        for (long i = t; i < b; i++) {
+            bigger[(int) (i & (bigger.length - 1))] = old[(int) (i & (old.length - 1))];
+        }
+        arr = bigger;
+        return bigger;
+    }
+
+    // owner only - null when empty
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        long b = bottom - 1;
+        Object[] a = arr;
+        bottom = b; // volatile write then volatile read of top: no reordering
+        long t = top;
+        if (t > b) {
+            bottom = b + 1; // was empty
+            return null;
+        }
+        int i = (int) (b & (a.length - 1));
+        T task = (T) SLOT.getAcquire(a, i);
+        if (t == b) {
+            // last element, race thieves for it; a winning thief clears the slot
+            if (!TOP.compareAndSet(this, t, t + 1)) {
+                task = null;
+            } else {
+                SLOT.setRelease(a, i, null);
+            }
+            bottom = b + 1;
+        } else {
+            SLOT.setRelease(a, i, null); // slot b is out of every thief's reach
+        }
+        return task;
+    }
+
+    // any thread - null when empty or when another thief won the race
+    @SuppressWarnings("unchecked")
+    public T steal() {
+        long t = top;
+        long b = bottom;
+        if (t >= b) {
+            return null;
+        }
+        Object[] a = arr;
+        int i = (int) (t & (a.length - 1));
+        T task = (T) SLOT.getAcquire(a, i);
+        if (!TOP.compareAndSet(this, t, t + 1)) {
+            return null;
+        }
+        // only clear it if the owner hasn't reused the slot in the meantime
+        SLOT.compareAndSet(a, i, task, null);
+        return task;
+    }
+}
@@ -0,0 +1,318 @@
+package DSA.Queue;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import DSA.BackTrack.NQueen;
+import DSA.DivideConquer.QuickSort;
+
+// Small fork/join scheduler on top of WorkStealingDeque.
+// Each worker owns a deque; fork() pushes onto the current worker's deque and
+// join() keeps running local or stolen tasks until the joined one is done, so
+// idle workers pull work from busy ones and nobody blocks on a lock.
+public class WorkStealingPool {
+
+    public abstract static class Task implements Runnable {
+        volatile boolean done;
+        volatile Throwable failure; // what compute() threw, rethrown by join()
+
+        protected abstract void compute();
+
+        // never lets an exception escape: a failed task is still done, and the
+        // worker that ran it keeps going
+        @Override
+        public final void run() {
+            try {
+                compute();
+            } catch (Throwable t) {
+                failure = t;
+            } finally {
+                done = true;
+            }
+        }
+
+        // schedule on the current worker's deque (runs inline outside the pool)
+        public final void fork() {
+            Thread th = Thread.currentThread();
+            if (th instanceof Worker) {
+                ((Worker) th).deque.push(this);
+            } else {
+                run();
+            }
+        }
+
+        // wait for this task, helping with other work meanwhile
+        public final void join() {
+            Thread th = Thread.currentThread();
+            if (!(th instanceof Worker)) {
+                while (!done) {
+                    LockSupport.parkNanos(50_000L);
+                }
+                rethrow();
+                return;
+            }
+            Worker w = (Worker) th;
+            int idle = 0;
+            while (!done) {
+                Runnable r = w.deque.pop();
+                if (r == null) {
+                    r = w.pool.stealFor(w);
+                }
+                if (r != null) {
+                    r.run();
+                    idle = 0;
+                } else if (++idle < 64) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            rethrow();
+        }
+
+        private void rethrow() {
+            Throwable t = failure;
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            if (t != null) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+
+    final class Worker extends Thread {
+        final WorkStealingDeque<Runnable> deque = new WorkStealingDeque<>();
+        final WorkStealingPool pool = WorkStealingPool.this;
+
+        Worker(int id) {
+            super("ws-worker-" + id);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (!shutdown) {
+                Runnable r = deque.pop();
+                if (r == null) {
+                    r = stealFor(this);
+                }
+                if (r == null) {
+                    r = submissions.poll();
+                }
+                if (r != null) {
+                    try {
+                        r.run();
+                    } catch (RuntimeException e) {
+                        // only plain Runnables get here - report it, keep the worker alive
+                        getUncaughtExceptionHandler().uncaughtException(this, e);
+                    }
+                    idle = 0;
+                } else if (++idle < 64) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(100_000L);
+                }
+            }
+        }
+    }
+
+    final Worker[] workers;
+    final ConcurrentLinkedQueue<Runnable> submissions = new ConcurrentLinkedQueue<>();
+    final AtomicLong steals = new AtomicLong();
+    volatile boolean shutdown;
+
+    public WorkStealingPool(int parallelism) {
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker w : workers) {
+            w.start();
+        }
+    }
+
+    // try every other worker once, starting at a random victim
+    Runnable stealFor(Worker thief) {
+        int n = workers.length;
+        int start = ThreadLocalRandom.current().nextInt(n);
+        for (int i = 0; i < n; i++) {
+            Worker victim = workers[(start + i) % n];
+            if (victim == thief) {
+                continue;
+            }
+            Runnable r = victim.deque.steal();
+            if (r != null) {
+                steals.incrementAndGet();
+                return r;
+            }
+        }
+        return null;
+    }
+
+    // run a root task from outside the pool and wait for it
+    public void invoke(Task task) {
+        submissions.add(task);
+        task.join();
+    }
+
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    // ---- tasks built from the DSA algorithms ----
+
+    // quick sort: partition, fork the left half, do the right half here
+    static class SortTask extends Task {
+        static final int CUTOFF = 1 << 13;
+        final int arr[];
+        final int start, end;
+
+        SortTask(int arr[], int start, int end) {
+            this.arr = arr;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start < CUTOFF) {
+                QuickSort.quickSort(arr, start, end);
+                return;
+            }
+            int p = QuickSort.partition(arr, start, end);
+            SortTask left = new SortTask(arr, start, p - 1);
+            left.fork();
+            new SortTask(arr, p + 1, end).compute();
+            left.join();
+        }
+    }
+
+    // N-Queens count: fork one subtask per safe column in the first rows
+    static class QueenTask extends Task {
+        static final int FORK_ROWS = 2;
+        final char board[][];
+        final int row;
+        long count;
+
+        QueenTask(char board[][], int row) {
+            this.board = board;
+            this.row = row;
+        }
+
+        @Override
+        protected void compute() {
+            count = row < FORK_ROWS ? forked() : solve(board, row);
+        }
+
+        private long forked() {
+            int n = board.length;
+            QueenTask subs[] = new QueenTask[n];
+            for (int j = 0; j < n; j++) {
+                if (NQueen.isSafe(board, row, j)) {
+                    char copy[][] = new char[n][];
+                    for (int i = 0; i < n; i++) {
+                        copy[i] = board[i].clone();
+                    }
+                    copy[row][j] = 'Q';
+                    subs[j] = new QueenTask(copy, row + 1);
+                    subs[j].fork();
+                }
+            }
+            long total = 0;
+            for (QueenTask t : subs) {
+                if (t != null) {
+                    t.join();
+                    total += t.count;
+                }
+            }
+            return total;
+        }
+
+        static long solve(char board[][], int row) {
+            if (row == board.length) {
+                return 1;
+            }
+            long total = 0;
+            for (int j = 0; j < board.length; j++) {
+                if (NQueen.isSafe(board, row, j)) {
+                    board[row][j] = 'Q';
+                    total += solve(board, row + 1);
+                    board[row][j] = 'x';
+                }
+            }
+            return total;
+        }
+    }
+
+    static java.lang.ref.WeakReference<int[]> sortAndForget(WorkStealingPool pool) {
+        int data[] = new Random(7).ints(1_000_000).toArray();
+        pool.invoke(new SortTask(data, 0, data.length - 1));
+        return new java.lang.ref.WeakReference<>(data);
+    }
+
+    public static void main(String[] args) {
+        int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+        WorkStealingPool pool = new WorkStealingPool(parallelism);
+
+        int arr[] = new int[2_000_000];
+        Random rnd = new Random(42);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = rnd.nextInt();
+        }
+        long start = System.nanoTime();
+        pool.invoke(new SortTask(arr, 0, arr.length - 1));
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        boolean sorted = true;
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i - 1] > arr[i]) {
+                sorted = false;
+                break;
+            }
+        }
+        System.out.println("sorted " + arr.length + " ints in " + ms + " ms, sorted? " + sorted);
+
+        int n = 10;
+        char board[][] = new char[n][n];
+        for (char row[] : board) {
+            java.util.Arrays.fill(row, 'x');
+        }
+        QueenTask queens = new QueenTask(board, 0);
+        pool.invoke(queens);
+        System.out.println(n + "-queens solutions: " + queens.count); // 724
+
+        // a failing task completes with its exception instead of hanging invoke()
+        Task bad = new Task() {
+            @Override
+            protected void compute() {
+                throw new IllegalStateException("boom");
+            }
+        };
+        try {
+            pool.invoke(bad);
+        } catch (IllegalStateException e) {
+            System.out.println("task failed: " + e.getMessage());
+        }
+        QueenTask again = new QueenTask(new char[][] { "xxxx".toCharArray(), "xxxx".toCharArray(),
+                "xxxx".toCharArray(), "xxxx".toCharArray() }, 0);
+        pool.invoke(again);
+        System.out.println("pool still works, 4-queens solutions: " + again.count); // 2
+
+        // finished tasks must not keep their data alive through the deques
+        java.lang.ref.WeakReference<int[]> ref = sortAndForget(pool);
+        for (int i = 0; i < 5 && ref.get() != null; i++) {
+            System.gc();
+        }
+        System.out.println("sorted array collected after invoke? " + (ref.get() == null));
+
+        System.out.println("workers=" + parallelism + " steals=" + pool.steals.get());
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,368 @@
+package DSA.Stack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+// Streaming versions of validParenthesis and DuplicateParenthesis for files
+// that don't fit in a String. Input is read as bytes (brackets are ASCII, so
+// UTF-8 is fine); every error is reported as a byte offset.
+// Brackets inside string literals are not special - this is a structural check.
+//
+//  - validate(channel):       (), [], {} with a byte stack, one 64K buffer
+//  - validateDepth(channel):  only (), just a depth counter - the fast path
+//  - validateParallel(path):  file split into mapped chunks; each chunk is
+//                             summarised on its own and the summaries are
+//                             combined left to right (the combine is associative)
+//  - findDuplicate(channel):  first redundant "(...)" pair, streaming
+public class BracketValidator {
+
+    static final int BUF = 1 << 16;
+
+    // offset of the first error, or -1 if the input is balanced
+    public static final long VALID = -1;
+
+    // 0 = not a bracket, 1..3 = open ( [ {, -1..-3 = matching close
+    static final byte KIND[] = new byte[256];
+
+    static {
+        KIND['('] = 1;
+        KIND['['] = 2;
+        KIND['{'] = 3;
+        KIND[')'] = -1;
+        KIND[']'] = -2;
+        KIND['}'] = -3;
+    }
+
+    // growable stack of (kind, offset) pairs
+    static class OpenStack {
+        byte kinds[] = new byte[64];
+        long offs[] = new long[64];
+        int size;
+
+        void push(byte kind, long off) {
+            if (size == kinds.length) {
+                kinds = java.util.Arrays.copyOf(kinds, size * 2);
+                offs = java.util.Arrays.copyOf(offs, size * 2);
+            }
+            kinds[size] = kind;
+            offs[size] = off;
+            size++;
+        }
+    }
+
+    // ---- sequential streaming ----
+
+    public static long validate(ReadableByteChannel in) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(BUF);
+        OpenStack s = new OpenStack();
+        long pos = 0;
+        while (in.read(buf) != -1) {
+            buf.flip();
+            byte b[] = buf.array();
+            int n = buf.limit();
+            for (int i = 0; i < n; i++) {
+                byte k = KIND[b[i] & 0xff];
+                if (k > 0) {
+                    s.push(k, pos + i);
+                } else if (k < 0) {
+                    if (s.size == 0 || s.kinds[s.size - 1] != -k) {
+                        return pos + i; // close without its open
+                    }
+                    s.size--;
+                }
+            }
+            pos += n;
+            buf.clear();
+        }
+        return s.size == 0 ? VALID : s.offs[0]; // outermost unclosed open
+    }
+
+    // only '(' and ')': a counter instead of a stack
+    public static long validateDepth(ReadableByteChannel in) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(BUF);
+        long depth = 0;
+        long outerOpen = -1; // where depth last went 0 -> 1
+        long pos = 0;
+        while (in.read(buf) != -1) {
+            buf.flip();
+            byte b[] = buf.array();
+            int n = buf.limit();
+            for (int i = 0; i < n; i++) {
+                if (b[i] == '(') {
+                    if (depth++ == 0) {
+                        outerOpen = pos + i;
+                    }
+                } else if (b[i] == ')') {
+                    if (--depth < 0) {
+                        return pos + i;
+                    }
+                }
+            }
+            pos += n;
+            buf.clear();
+        }
+        return depth == 0 ? VALID : outerOpen;
+    }
+
+    // ---- parallel ----
+
+    // What one chunk leaves unmatched: closes it could not match (they need
+    // opens from the left) and opens still waiting (they need closes from the
+    // right). A close that meets the wrong open inside the chunk is an error
+    // no matter what surrounds it.
+    static class Summary {
+        OpenStack closes = new OpenStack(); // kinds stored as positive
+        OpenStack opens = new OpenStack();
+        long error = VALID;
+
+        // this followed by right
+        Summary combine(Summary right) {
+            Summary res = new Summary();
+            res.error = error;
+            res.closes = closes;
+            OpenStack o = opens;
+            for (int i = 0; i < right.closes.size; i++) {
+                byte k = right.closes.kinds[i];
+                long off = right.closes.offs[i];
+                if (o.size == 0) {
+                    res.closes.push(k, off);
+                } else if (o.kinds[o.size - 1] == k) {
+                    o.size--;
+                } else {
+                    res.error = firstError(res.error, off);
+                    break;
+                }
+            }
+            res.error = firstError(res.error, right.error);
+            for (int i = 0; i < right.opens.size; i++) {
+                o.push(right.opens.kinds[i], right.opens.offs[i]);
+            }
+            res.opens = o;
+            return res;
+        }
+
+        long result() {
+            long res = error;
+            if (closes.size > 0) {
+                res = firstError(res, closes.offs[0]);
+            }
+            if (res == VALID && opens.size > 0) {
+                res = opens.offs[0];
+            }
+            return res;
+        }
+    }
+
+    static long firstError(long a, long b) {
+        if (a == VALID) {
+            return b;
+        }
+        return b == VALID ? a : Math.min(a, b);
+    }
+
+    static Summary summarize(MappedByteBuffer mb, long base) {
+        Summary sm = new Summary();
+        OpenStack s = sm.opens;
+        int n = mb.limit();
+        for (int i = 0; i < n; i++) {
+            byte k = KIND[mb.get(i) & 0xff];
+            if (k > 0) {
+                s.push(k, base + i);
+            } else if (k < 0) {
+                if (s.size == 0) {
+                    sm.closes.push((byte) -k, base + i);
+                } else if (s.kinds[s.size - 1] == -k) {
+                    s.size--;
+                } else {
+                    sm.error = base + i;
+                    break;
+                }
+            }
+        }
+        return sm;
+    }
+
+    public static long validateParallel(Path file, int chunkSize) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            int chunks = (int) ((size + chunkSize - 1) / chunkSize);
+            Summary parts[] = new Summary[chunks];
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                long base = (long) c * chunkSize;
+                long len = Math.min(chunkSize, size - base);
+                try {
+                    parts[c] = summarize(ch.map(FileChannel.MapMode.READ_ONLY, base, len), base);
+                } catch (IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            });
+            Summary total = new Summary();
+            for (Summary p : parts) {
+                total = total.combine(p);
+            }
+            return total.result();
+        }
+    }
+
+    // Depth-only parallel check: each chunk is reduced to
+    // (unmatched closes, unmatched opens); combining two of them is
+    // (c1 + max(0, c2 - o1), o2 + max(0, o1 - c2)). Only one chunk is scanned
+    // again: the one holding the first error, or for unclosed input the last
+    // chunk where the running depth touches 0.
+    public static long validateDepthParallel(Path file, int chunkSize) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            int chunks = (int) ((size + chunkSize - 1) / chunkSize);
+            long close[] = new long[chunks];
+            long open[] = new long[chunks];
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                long base = (long) c * chunkSize;
+                long len = Math.min(chunkSize, size - base);
+                try {
+                    MappedByteBuffer mb = ch.map(FileChannel.MapMode.READ_ONLY, base, len);
+                    long d = 0, minD = 0;
+                    for (int i = 0; i < len; i++) {
+                        byte b = mb.get(i);
+                        if (b == '(') {
+                            d++;
+                        } else if (b == ')') {
+                            d--;
+                            minD = Math.min(minD, d);
+                        }
+                    }
+                    close[c] = -minD;
+                    open[c] = d - minD;
+                } catch (IOException e) {
+                    throw new java.io.UncheckedIOException(e);
+                }
+            });
+
+            long depth = 0;
+            int lastZero = 0; // last chunk whose running depth touches 0
+            long lastZeroStart = 0;
+            for (int c = 0; c < chunks; c++) {
+                if (close[c] > depth) {
+                    // depth goes negative inside chunk c - rescan just that chunk
+                    long base = (long) c * chunkSize;
+                    MappedByteBuffer mb = ch.map(FileChannel.MapMode.READ_ONLY, base, Math.min(chunkSize, size - base));
+                    long d = depth;
+                    for (int i = 0; ; i++) {
+                        byte b = mb.get(i);
+                        if (b == '(') {
+                            d++;
+                        } else if (b == ')' && --d < 0) {
+                            return base + i;
+                        }
+                    }
+                }
+                if (close[c] == depth) {
+                    lastZero = c;
+                    lastZeroStart = depth;
+                }
+                depth = depth - close[c] + open[c];
+            }
+            if (depth == 0) {
+                return VALID;
+            }
+            // unclosed: the outermost unclosed open is where depth last went 0 -> 1.
+            // Every chunk after lastZero stays above 0, so it is inside lastZero.
+            long base = (long) lastZero * chunkSize;
+            MappedByteBuffer mb = ch.map(FileChannel.MapMode.READ_ONLY, base, Math.min(chunkSize, size - base));
+            long d = lastZeroStart;
+            long outerOpen = -1;
+            for (int i = 0; i < mb.limit(); i++) {
+                byte b = mb.get(i);
+                if (b == '(') {
+                    if (d++ == 0) {
+                        outerOpen = base + i;
+                    }
+                } else if (b == ')') {
+                    d--;
+                }
+            }
+            return outerOpen;
+        }
+    }
+
+    // ---- duplicate parentheses ----
+
+    // Same rule as DuplicateParenthesis: a ")" whose "(" has nothing directly
+    // inside it besides other groups is a duplicate. Instead of keeping every
+    // char, the stack keeps one counter per open group.
+    // Returns the offset of the first such ")", or -1.
+    public static long findDuplicate(ReadableByteChannel in) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(BUF);
+        IntStack content = new IntStack();
+        long pos = 0;
+        while (in.read(buf) != -1) {
+            buf.flip();
+            byte b[] = buf.array();
+            int n = buf.limit();
+            for (int i = 0; i < n; i++) {
+                if (b[i] == '(') {
+                    content.push(0);
+                } else if (b[i] == ')') {
+                    if (content.isEmpty()) {
+                        continue; // unbalanced close, not this check's concern
+                    }
+                    if (content.pop() == 0) {
+                        return pos + i;
+                    }
+                } else if (!content.isEmpty()) {
+                    content.arr[content.size - 1]++;
+                }
+            }
+            pos += n;
+            buf.clear();
+        }
+        return -1;
+    }
+
+    static ReadableByteChannel channel(String s) {
+        return java.nio.channels.Channels.newChannel(new java.io.ByteArrayInputStream(s.getBytes()));
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.println(validate(channel("(((([{()}]))))")));  // -1, valid
+        System.out.println(validate(channel("[{}]([]]])")));      // 7
+        System.out.println(validateDepth(channel("(a(b)c))")));   // 7
+        System.out.println(findDuplicate(channel("((a+b)+c+((d)))"))); // 13
+        System.out.println(findDuplicate(channel("(a+b-(c+d))")));     // -1
+
+        // 64 MB of nested brackets with one mistake near the end
+        Path tmp = Files.createTempFile("brackets", ".txt");
+        try {
+            int reps = 4_000_000;
+            byte unit[] = "{[(x)]}([]{})".getBytes();
+            byte data[] = new byte[unit.length * reps + 2];
+            data[0] = '(';
+            for (int r = 0; r < reps; r++) {
+                System.arraycopy(unit, 0, data, 1 + r * unit.length, unit.length);
+            }
+            data[data.length - 1] = ')';
+            long bad = data.length - 4; // the "{" of the last unit
+            Files.write(tmp, data);
+
+            long start = System.nanoTime();
+            long ok = validateParallel(tmp, 8 << 20);
+            long ms = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("parallel: " + ok + " in " + ms + " ms");
+
+            data[(int) bad] = ']';
+            Files.write(tmp, data);
+            System.out.println("parallel error at " + validateParallel(tmp, 8 << 20) + ", expected " + bad);
+            try (FileChannel ch = FileChannel.open(tmp)) {
+                System.out.println("sequential error at " + validate(ch));
+            }
+        } finally {
+            Files.delete(tmp);
+        }
+    }
+}
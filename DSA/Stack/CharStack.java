@@ -0,0 +1,70 @@
+package DSA.Stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+// Growable stack of primitive chars.
+// Replacement for Stack<Character> in the bracket and string algorithms:
+// no Vector locking on push/pop and no boxed Character per element.
+public class CharStack {
+    char arr[];
+    int size;
+
+    public CharStack() {
+        this(16);
+    }
+
+    public CharStack(int capacity) {
+        arr = new char[Math.max(capacity, 1)];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void ensure(int minCapacity) {
+        if (minCapacity > arr.length) {
+            arr = Arrays.copyOf(arr, Math.max(minCapacity, arr.length * 2));
+        }
+    }
+
+    public void push(char val) {
+        if (size == arr.length) {
+            ensure(size + 1);
+        }
+        arr[size++] = val;
+    }
+
+    // push vals[off..off+len) in order, vals[off+len-1] ends up on top
+    public void pushAll(char vals[], int off, int len) {
+        ensure(size + len);
+        System.arraycopy(vals, off, arr, size, len);
+        size += len;
+    }
+
+    public void pushAll(char vals[]) {
+        pushAll(vals, 0, vals.length);
+    }
+
+    public char pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return arr[--size];
+    }
+
+    public char peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return arr[size - 1];
+    }
+}
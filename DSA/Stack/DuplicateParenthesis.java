@@ -1,11 +1,9 @@
 package DSA.Stack;
 
-import java.util.Stack;
-
 public class DuplicateParenthesis {
 
     public static boolean dupliParan(String str){
-        Stack<Character> s = new Stack<>();
+        CharStack s = new CharStack();
 
         for(int i=0; i<str.length();i++){
             char ch = str.charAt(i);
@@ -0,0 +1,107 @@
+package DSA.Stack;
+
+import java.util.stream.IntStream;
+
+// Largest rectangle in a histogram - engine version of maxAreaHisto.
+//  - largestRectangle: one stack pass, no nextSmallLeft/Right arrays,
+//    area kept in long so height*width can't overflow
+//  - largestRectangleParallel: next smaller left/right from per-chunk stacks
+//    merged at the chunk boundaries, then a parallel max over the bars
+//  - maximalRectangle: 2D version for a 0/1 matrix, one histogram per row
+public class Histogram {
+
+    static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    // single pass over [lo, hi): when a bar is popped, the current index is its
+    // next smaller on the right and the new stack top is its next smaller on the left
+    public static long largestRectangle(int heights[], int lo, int hi, IntStack s) {
+        s.clear();
+        long best = 0;
+        for (int i = lo; i <= hi; i++) {
+            int curr = (i == hi) ? -1 : heights[i]; // -1 flushes the stack at the end
+            while (!s.isEmpty() && heights[s.peek()] >= curr) {
+                long h = heights[s.pop()];
+                int left = s.isEmpty() ? lo - 1 : s.peek();
+                best = Math.max(best, h * (i - left - 1));
+            }
+            s.push(i);
+        }
+        return best;
+    }
+
+    public static long largestRectangle(int heights[]) {
+        return largestRectangle(heights, 0, heights.length, new IntStack(heights.length + 1));
+    }
+
+    // Per-chunk stacks with a boundary merge: NextElement.nextParallel finds
+    // every bar's next smaller bar on the left and on the right (each chunk
+    // runs its own stack, only the unresolved elements are merged across chunk
+    // boundaries). The widest rectangle of height heights[i] then spans exactly
+    // the bars between those two, so the answer is a parallel max over i.
+    // O(n) work in total, like the single pass, spread over the chunks.
+    public static long largestRectangleParallel(int heights[], int threshold) {
+        int n = heights.length;
+        if (n <= threshold) {
+            return largestRectangle(heights);
+        }
+        int chunk = Math.max(threshold, 2);
+        int left[] = new int[n], right[] = new int[n];
+        NextElement.nextParallel(heights, false, false, left, chunk);
+        NextElement.nextParallel(heights, false, true, right, chunk);
+        return IntStream.range(0, n).parallel()
+                .mapToLong(i -> (long) heights[i] * ((right[i] < 0 ? n : right[i]) - left[i] - 1))
+                .max().getAsLong();
+    }
+
+    public static long largestRectangleParallel(int heights[]) {
+        return largestRectangleParallel(heights, DEFAULT_THRESHOLD);
+    }
+
+    // largest all-ones rectangle in a 0/1 matrix
+    public static long maximalRectangle(int matrix[][]) {
+        if (matrix.length == 0) {
+            return 0;
+        }
+        int cols = matrix[0].length;
+        int heights[] = new int[cols];
+        IntStack s = new IntStack(cols + 1);
+        long best = 0;
+        for (int row[] : matrix) {
+            for (int j = 0; j < cols; j++) {
+                heights[j] = row[j] == 0 ? 0 : heights[j] + 1;
+            }
+            best = Math.max(best, largestRectangle(heights, 0, cols, s));
+        }
+        return best;
+    }
+
+    public static void main(String[] args) {
+        int arr[] = { 2, 1, 5, 6, 2, 3 };
+        System.out.println("MaxArea is " + largestRectangle(arr)); // 10
+
+        // int would overflow here: 2,000,000,000 * 3
+        int tall[] = { 2_000_000_000, 2_000_000_000, 2_000_000_000 };
+        System.out.println("MaxArea is " + largestRectangle(tall));
+
+        int matrix[][] = {
+            { 1, 0, 1, 0, 0 },
+            { 1, 0, 1, 1, 1 },
+            { 1, 1, 1, 1, 1 },
+            { 1, 0, 0, 1, 0 },
+        };
+        System.out.println("Maximal rectangle is " + maximalRectangle(matrix)); // 6
+
+        int big[] = new int[20_000_000];
+        java.util.Random rnd = new java.util.Random(3);
+        for (int i = 0; i < big.length; i++) {
+            big[i] = rnd.nextInt(1_000_000);
+        }
+        long start = System.nanoTime();
+        long seq = largestRectangle(big);
+        long seqMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        long par = largestRectangleParallel(big);
+        long parMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("sequential " + seq + " in " + seqMs + " ms, parallel " + par + " in " + parMs + " ms");
+    }
+}
@@ -0,0 +1,115 @@
+package DSA.Stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+// Growable stack of primitive ints.
+// Replacement for Stack<Integer> in the monotonic-stack algorithms:
+// no Vector locking on push/pop and no boxed Integer per element.
+public class IntStack {
+    int arr[];
+    int size;
+
+    public IntStack() {
+        this(16);
+    }
+
+    public IntStack(int capacity) {
+        arr = new int[Math.max(capacity, 1)];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void ensure(int minCapacity) {
+        if (minCapacity > arr.length) {
+            arr = Arrays.copyOf(arr, Math.max(minCapacity, arr.length * 2));
+        }
+    }
+
+    public void push(int val) {
+        if (size == arr.length) {
+            ensure(size + 1);
+        }
+        arr[size++] = val;
+    }
+
+    // push vals[off..off+len) in order, vals[off+len-1] ends up on top
+    public void pushAll(int vals[], int off, int len) {
+        ensure(size + len);
+        System.arraycopy(vals, off, arr, size, len);
+        size += len;
+    }
+
+    public void pushAll(int vals[]) {
+        pushAll(vals, 0, vals.length);
+    }
+
+    // ---- in-place reshaping, O(n) time and O(1) extra space ----
+    // arr[0] is the bottom, arr[size-1] the top
+
+    private void reverse(int lo, int hi) {
+        for (hi--; lo < hi; lo++, hi--) {
+            int temp = arr[lo];
+            arr[lo] = arr[hi];
+            arr[hi] = temp;
+        }
+    }
+
+    // top becomes bottom
+    public void reverse() {
+        reverse(0, size);
+    }
+
+    // insert val with `depth` elements above it: 0 is a push, size() is push-at-bottom
+    public void insertAt(int depth, int val) {
+        if (depth < 0 || depth > size) {
+            throw new IndexOutOfBoundsException("depth " + depth + " size " + size);
+        }
+        if (size == arr.length) {
+            ensure(size + 1);
+        }
+        int pos = size - depth;
+        System.arraycopy(arr, pos, arr, pos + 1, depth);
+        arr[pos] = val;
+        size++;
+    }
+
+    // same as k times "pop the top and push it at the bottom"; negative k goes the other way
+    public void rotate(int k) {
+        if (size < 2) {
+            return;
+        }
+        k = ((k % size) + size) % size;
+        if (k == 0) {
+            return;
+        }
+        // the top k elements move to the bottom: reverse both parts, then the whole
+        reverse(0, size - k);
+        reverse(size - k, size);
+        reverse(0, size);
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return arr[--size];
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return arr[size - 1];
+    }
+}
@@ -0,0 +1,159 @@
+package DSA.Stack;
+
+import java.util.stream.IntStream;
+
+// Monotonic-stack engine - the reusable version of nextGreaterElement.
+// For every i, out[i] = index of the nearest element to the right (or left)
+// that is strictly greater (or smaller) than arr[i], or -1 if there is none.
+// Results go into caller-supplied buffers; values()/distances() turn the
+// index answers into the other common outputs.
+//
+// Internally everything runs in "scan order": k = 0..n-1 maps to index
+// n-1-k for RIGHT queries and to k for LEFT queries, so one loop covers both.
+public class NextElement {
+
+    private static int idx(int k, int n, boolean right) {
+        return right ? n - 1 - k : k;
+    }
+
+    // true if arr[top] can never answer a query for val (so it is popped)
+    private static boolean beaten(int top, int val, boolean greater) {
+        return greater ? top <= val : top >= val;
+    }
+
+    public static void next(int arr[], boolean greater, boolean right, int out[]) {
+        int n = arr.length;
+        IntStack s = new IntStack(n);
+        for (int k = 0; k < n; k++) {
+            int i = idx(k, n, right);
+            while (!s.isEmpty() && beaten(arr[s.peek()], arr[i], greater)) {
+                s.pop();
+            }
+            out[i] = s.isEmpty() ? -1 : s.peek();
+            s.push(i);
+        }
+    }
+
+    // circular array: the scan wraps around once, answers recorded on the second lap
+    public static void nextCircular(int arr[], boolean greater, boolean right, int out[]) {
+        int n = arr.length;
+        IntStack s = new IntStack(n);
+        for (int k = 0; k < 2 * n; k++) {
+            int i = idx(k % n, n, right);
+            while (!s.isEmpty() && beaten(arr[s.peek()], arr[i], greater)) {
+                s.pop();
+            }
+            if (k >= n) {
+                out[i] = s.isEmpty() ? -1 : s.peek();
+            }
+            s.push(i);
+        }
+    }
+
+    // out[i] = arr[idx[i]], or missing when there is no answer
+    public static void values(int arr[], int idx[], int missing, int out[]) {
+        for (int i = 0; i < idx.length; i++) {
+            out[i] = idx[i] < 0 ? missing : arr[idx[i]];
+        }
+    }
+
+    // out[i] = steps from i to its answer in the query direction (wrapping for
+    // circular answers), 0 when there is no answer
+    public static void distances(int idx[], boolean right, int out[]) {
+        int n = idx.length;
+        for (int i = 0; i < n; i++) {
+            int j = idx[i];
+            out[i] = j < 0 ? 0 : right ? (j - i + n) % n : (i - j + n) % n;
+        }
+    }
+
+    // ---- parallel chunked version ----
+    // 1. every chunk (in scan order) runs the plain algorithm with an empty stack.
+    //    Elements that found nothing inside their chunk are "open"; the stack left
+    //    at the end of the chunk is what the chunk offers to later chunks.
+    // 2. a sequential merge walks the chunks in scan order with one carried stack
+    //    (the exact stack the sequential scan would have at that point), answers
+    //    each chunk's open elements from it, then pushes the chunk's leftovers.
+    // Step 2 only touches open and leftover elements, which is usually tiny.
+    public static void nextParallel(int arr[], boolean greater, boolean right, int out[], int chunkSize) {
+        int n = arr.length;
+        if (n <= chunkSize) {
+            next(arr, greater, right, out);
+            return;
+        }
+        int chunks = (n + chunkSize - 1) / chunkSize;
+        int open[][] = new int[chunks][];
+        int leftover[][] = new int[chunks][];
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * chunkSize;
+            int to = Math.min(from + chunkSize, n);
+            IntStack s = new IntStack();
+            IntStack unresolved = new IntStack();
+            for (int k = from; k < to; k++) {
+                int i = idx(k, n, right);
+                while (!s.isEmpty() && beaten(arr[s.peek()], arr[i], greater)) {
+                    s.pop();
+                }
+                if (s.isEmpty()) {
+                    out[i] = -1;
+                    unresolved.push(i);
+                } else {
+                    out[i] = s.peek();
+                }
+                s.push(i);
+            }
+            open[c] = java.util.Arrays.copyOf(unresolved.arr, unresolved.size);
+            leftover[c] = java.util.Arrays.copyOf(s.arr, s.size);
+        });
+
+        IntStack carried = new IntStack();
+        for (int c = 0; c < chunks; c++) {
+            // open elements come in scan order and get ever more extreme,
+            // so the carried stack only ever needs popping
+            for (int i : open[c]) {
+                while (!carried.isEmpty() && beaten(arr[carried.peek()], arr[i], greater)) {
+                    carried.pop();
+                }
+                out[i] = carried.isEmpty() ? -1 : carried.peek();
+            }
+            carried.pushAll(leftover[c]);
+        }
+    }
+
+    public static void main(String[] args) {
+        int arr[] = { 6, 8, 0, 1, 3 };
+        int idx[] = new int[arr.length];
+        int out[] = new int[arr.length];
+
+        next(arr, true, true, idx);
+        values(arr, idx, -1, out);
+        System.out.println("next greater right:  " + java.util.Arrays.toString(out)); // 8 -1 1 3 -1
+
+        next(arr, false, false, idx);
+        values(arr, idx, -1, out);
+        System.out.println("next smaller left:   " + java.util.Arrays.toString(out));
+
+        nextCircular(arr, true, true, idx);
+        values(arr, idx, -1, out);
+        System.out.println("circular greater:    " + java.util.Arrays.toString(out));
+        distances(idx, true, out);
+        System.out.println("circular distances:  " + java.util.Arrays.toString(out));
+
+        int big[] = new int[50_000_000];
+        java.util.Random rnd = new java.util.Random(11);
+        for (int i = 0; i < big.length; i++) {
+            big[i] = rnd.nextInt();
+        }
+        int seq[] = new int[big.length];
+        int par[] = new int[big.length];
+        long start = System.nanoTime();
+        next(big, true, true, seq);
+        long seqMs = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        nextParallel(big, true, true, par, 1 << 20);
+        long parMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("sequential " + seqMs + " ms, parallel " + parMs + " ms, same? "
+                + java.util.Arrays.equals(seq, par));
+    }
+}
@@ -0,0 +1,117 @@
+package DSA.Stack;
+
+import java.util.Arrays;
+
+// Online stock span for many symbols at once.
+// Same rule as stockSpanProblem (span = days since the last strictly higher
+// price), but prices arrive one tick at a time and each answer is returned
+// immediately. Every tick is pushed once and popped at most once, so a tick
+// costs amortized O(1).
+//
+// Symbols are dense ids 0..n-1. Each symbol keeps its own monotonic stack as
+// a primitive price array plus a day array; nothing is boxed.
+public class StockSpanner {
+
+    double prices[][]; // per symbol: stack of prices, strictly decreasing
+    int days[][];      // per symbol: day index of each stack entry
+    int depth[];       // per symbol: stack size
+    int day[];         // per symbol: ticks seen so far
+
+    public StockSpanner(int symbols) {
+        prices = new double[Math.max(symbols, 1)][];
+        days = new int[prices.length][];
+        depth = new int[prices.length];
+        day = new int[prices.length];
+    }
+
+    public StockSpanner() {
+        this(1);
+    }
+
+    private void ensureSymbol(int sym) {
+        if (sym >= prices.length) {
+            int n = Math.max(sym + 1, prices.length * 2);
+            prices = Arrays.copyOf(prices, n);
+            days = Arrays.copyOf(days, n);
+            depth = Arrays.copyOf(depth, n);
+            day = Arrays.copyOf(day, n);
+        }
+        if (prices[sym] == null) {
+            prices[sym] = new double[8];
+            days[sym] = new int[8];
+        }
+    }
+
+    // next price for one symbol, returns its span
+    public int onTick(int sym, double price) {
+        ensureSymbol(sym);
+        double p[] = prices[sym];
+        int d[] = days[sym];
+        int top = depth[sym];
+        int today = day[sym]++;
+
+        while (top > 0 && p[top - 1] <= price) {
+            top--;
+        }
+        int span = top == 0 ? today + 1 : today - d[top - 1];
+
+        if (top == p.length) {
+            prices[sym] = p = Arrays.copyOf(p, top * 2);
+            days[sym] = d = Arrays.copyOf(d, top * 2);
+        }
+        p[top] = price;
+        d[top] = today;
+        depth[sym] = top + 1;
+        return span;
+    }
+
+    // single-symbol shortcut
+    public int next(double price) {
+        return onTick(0, price);
+    }
+
+    // batch ingestion: spans[i] is the span of ticks (symbols[i], prices[i]).
+    // Ticks are applied in array order, so one symbol may appear many times.
+    public void onTicks(int symbols[], double ticks[], int spans[]) {
+        for (int i = 0; i < symbols.length; i++) {
+            spans[i] = onTick(symbols[i], ticks[i]);
+        }
+    }
+
+    public int[] onTicks(int symbols[], double ticks[]) {
+        int spans[] = new int[symbols.length];
+        onTicks(symbols, ticks, spans);
+        return spans;
+    }
+
+    public static void main(String[] args) {
+        StockSpanner one = new StockSpanner();
+        int stock[] = { 100, 80, 60, 70, 60, 85, 100 };
+        for (int price : stock) {
+            System.out.print(one.next(price) + " ");
+        }
+        System.out.println(); // 1 1 1 2 1 5 7, same as stockSpanProblem
+
+        // synthetic feed: 1000 symbols, 10M ticks, random walk per symbol
+        int symbols = 1000;
+        int n = 10_000_000;
+        int syms[] = new int[n];
+        double px[] = new double[n];
+        double last[] = new double[symbols];
+        Arrays.fill(last, 100.0);
+        java.util.Random rnd = new java.util.Random(7);
+        for (int i = 0; i < n; i++) {
+            int s = rnd.nextInt(symbols);
+            last[s] += rnd.nextGaussian();
+            syms[i] = s;
+            px[i] = last[s];
+        }
+
+        StockSpanner many = new StockSpanner(symbols);
+        int spans[] = new int[n];
+        long start = System.nanoTime();
+        many.onTicks(syms, px, spans);
+        long ns = System.nanoTime() - start;
+        System.out.printf("%,d ticks for %d symbols: %.1f M ticks/s%n", n, symbols, n * 1000.0 / ns);
+    }
+}
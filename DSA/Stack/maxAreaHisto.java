@@ -1,15 +1,13 @@
 package DSA.Stack;
 
-import java.util.Stack;
-
 public class maxAreaHisto {
     
     public static void maxArr(int arr[]){
-        int maxArea=0;
+        long maxArea=0;
         int nextSmallLeft[] =new int[arr.length];
         int nextSmallRight[] =new int[arr.length];
 
-        Stack <Integer> s = new Stack<>();
+        IntStack s = new IntStack(arr.length);
 
         for(int i=arr.length-1;i>=0;i--){
             while(!s.isEmpty()&&arr[s.peek()]>=arr[i]){
@@ -23,6 +21,7 @@ public class maxAreaHisto {
             }
             s.push(i);
         }
+        s.clear(); // leftovers from the right pass are not left neighbours
         for(int i=0;i<arr.length;i++){
             while(!s.isEmpty()&&arr[s.peek()]>=arr[i]){
                 s.pop();
@@ -39,7 +38,7 @@ public class maxAreaHisto {
         for(int i=0;i<arr.length;i++){
             int height=arr[i];
             int width = nextSmallRight[i]-nextSmallLeft[i]-1;
-            int area = height*width;
+            long area = (long)height*width; // int would overflow on tall bars
             maxArea = Math.max(maxArea, area);
         }
 
@@ -1,11 +1,9 @@
 package DSA.Stack;
 
-import java.util.Stack;
-
 public class nextGreaterElement {
     public static void main(String[] args) {
         int arr []= {6,8,0,1,3};
-        Stack <Integer> s = new Stack<>();
+        IntStack s = new IntStack(arr.length);
         int nextGreater[] = new int [arr.length];
 
         for (int i =arr.length-1; i>=0;i--){
@@ -1,21 +1,14 @@
 package DSA.Stack;
 
-import java.util.*;
-
 public class pushAtBottom{
 
-    public static void pushAtbottom(Stack <Integer> s, int data){
-        if(s.isEmpty()){
-            s.push(data);
-            return;
-        }
-
-        int top = s.pop();
-        pushAtbottom(s, data);
-        s.push(top);
+    // shifts the backing array up by one - O(n), no recursion, so it is safe
+    // for stacks with millions of elements
+    public static void pushAtbottom(IntStack s, int data){
+        s.insertAt(s.size(), data);
     }
     public static void main(String[] args) {
-        Stack <Integer> s = new Stack<>();
+        IntStack s = new IntStack();
         s.push(1);
         s.push(2);
         s.push(3);
@@ -26,5 +19,12 @@ public class pushAtBottom{
         while (!s.isEmpty()) {
             System.out.println(s.pop());
         }
+
+        IntStack big = new IntStack();
+        for (int i = 0; i < 5_000_000; i++) {
+            big.push(i);
+        }
+        pushAtbottom(big, -1);
+        System.out.println("bottom " + big.arr[0] + ", top " + big.peek()); // -1, 4999999
     }
-}
\ No newline at end of file
+}
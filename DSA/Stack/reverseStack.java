@@ -1,36 +1,21 @@
 package DSA.Stack;
-import java.util.Stack;
 
 public class reverseStack {
 
-    public static void pushAtbottom(Stack <Integer> s, int data){
-        if(s.isEmpty()){
-            s.push(data);
-            return;
-        }
-
-        int top = s.pop();
-        pushAtbottom(s, data);
-        s.push(top);
+    // iterative: swaps the backing array end to end, O(n) time, O(1) space.
+    // The recursive pop/pushAtBottom version was O(n^2) and overflowed the
+    // thread stack after a few thousand elements.
+    public static void reversedStack(IntStack s){
+        s.reverse();
     }
 
-    public static void reversedStack(Stack<Integer> s){
-        if(s.isEmpty()){
-            return;
-        }
-
-        int top = s.pop();
-        reversedStack(s);
-        pushAtbottom(s, top);
-    }
-
-    public static void printStack(Stack <Integer> s){
+    public static void printStack(IntStack s){
         while(!s.isEmpty()){
             System.out.println(s.pop());
         }
     }
     public static void main(String[] args) {
-        Stack <Integer> s = new Stack<>();
+        IntStack s = new IntStack();
         s.push(0);
         s.push(1);
         s.push(2);
@@ -39,5 +24,13 @@ public class reverseStack {
 
         reversedStack(s);
         printStack(s);
+
+        IntStack big = new IntStack();
+        for (int i = 0; i < 10_000_000; i++) {
+            big.push(i);
+        }
+        reversedStack(big);
+        big.rotate(2); // 1 and 0 go to the bottom
+        System.out.println("top after reverse + rotate: " + big.peek()); // 2
     }
 }
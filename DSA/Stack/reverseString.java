@@ -1,20 +1,18 @@
 package DSA.Stack;
 
-import java.util.Stack;
-
 // import DSA.String.string;
 
 public class reverseString {
 
    public static String reversedString(String str){
-    Stack <Character> s = new Stack<>();
+    CharStack s = new CharStack(str.length());
     int idx =0;
     while(idx<str.length()){
         s.push(str.charAt(idx));
         idx++;
     }
 
-    StringBuilder res = new StringBuilder(" ");
+    StringBuilder res = new StringBuilder(str.length());
     while (!s.isEmpty()) {
         res.append(s.pop());
     }
@@ -1,10 +1,8 @@
 package DSA.Stack;
 
-import java.util.Stack;
-
 public class stockSpanProblem {
     public static void stockSpan(int stock[]){
-        Stack <Integer> s = new Stack<>();
+        IntStack s = new IntStack(stock.length);
         int span []= new int[stock.length];
         span[0]=1;
         s.push(0);
@@ -0,0 +1,263 @@
+package DSA.String;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// In-place reversal utilities.
+// Three levels of "character":
+//  - reverse(char[]):           code points - surrogate pairs stay in order
+//  - reverseGraphemes(char[]):  user-perceived characters (\X), so e + combining
+//                               accent, flags and ZWJ emoji survive intact;
+//                               also for CharBuffer and UTF-8 byte[]
+//  - reverse(byte[]):           UTF-8 bytes, code point by code point
+// An instance keeps its scratch buffers, so reversing millions of strings
+// through reverseAll() allocates only the result Strings.
+public class StringReverser {
+
+    static final Pattern GRAPHEME = Pattern.compile("\\X");
+
+    char buf[] = new char[64];
+    int bounds[] = new int[64];
+    final Matcher matcher = GRAPHEME.matcher("");
+    final CharsetDecoder utf8 = StandardCharsets.UTF_8.newDecoder(); // reports malformed input
+
+    // plain swap of code units in [lo, hi)
+    static void reverseUnits(char a[], int lo, int hi) {
+        for (hi--; lo < hi; lo++, hi--) {
+            char temp = a[lo];
+            a[lo] = a[hi];
+            a[hi] = temp;
+        }
+    }
+
+    // reverse by code point: swap everything, then put each pair back as high, low
+    public static void reverse(char a[], int off, int len) {
+        int end = off + len;
+        reverseUnits(a, off, end);
+        for (int i = off; i < end - 1; i++) {
+            if (Character.isLowSurrogate(a[i]) && Character.isHighSurrogate(a[i + 1])) {
+                char temp = a[i];
+                a[i] = a[i + 1];
+                a[i + 1] = temp;
+                i++;
+            }
+        }
+    }
+
+    public static void reverse(char a[]) {
+        reverse(a, 0, a.length);
+    }
+
+    public static void reverse(CharBuffer cb) {
+        if (cb.hasArray()) {
+            reverse(cb.array(), cb.arrayOffset() + cb.position(), cb.remaining());
+            return;
+        }
+        int lo = cb.position(), hi = cb.limit() - 1;
+        for (; lo < hi; lo++, hi--) {
+            char temp = cb.get(lo);
+            cb.put(lo, cb.get(hi));
+            cb.put(hi, temp);
+        }
+        for (int i = cb.position(); i < cb.limit() - 1; i++) {
+            if (Character.isLowSurrogate(cb.get(i)) && Character.isHighSurrogate(cb.get(i + 1))) {
+                char temp = cb.get(i);
+                cb.put(i, cb.get(i + 1));
+                cb.put(i + 1, temp);
+                i++;
+            }
+        }
+    }
+
+    // UTF-8: swap all bytes, then every multi-byte sequence reads
+    // continuation bytes first and its lead byte last - flip those runs back
+    public static void reverse(byte a[], int off, int len) {
+        int end = off + len;
+        for (int lo = off, hi = end - 1; lo < hi; lo++, hi--) {
+            byte temp = a[lo];
+            a[lo] = a[hi];
+            a[hi] = temp;
+        }
+        int i = off;
+        while (i < end) {
+            if ((a[i] & 0xC0) != 0x80) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < end && (a[i] & 0xC0) == 0x80) {
+                i++;
+            }
+            int stop = Math.min(i + 1, end); // include the lead byte
+            for (int lo = start, hi = stop - 1; lo < hi; lo++, hi--) {
+                byte temp = a[lo];
+                a[lo] = a[hi];
+                a[hi] = temp;
+            }
+            i = stop;
+        }
+    }
+
+    // cluster [start, end) pairs of text, shifted by base, into the reused
+    // bounds buffer; returns how many ints were written
+    private int clusters(CharSequence text, int base) {
+        matcher.reset(text);
+        int n = 0;
+        while (matcher.find()) {
+            if (n + 2 > bounds.length) {
+                bounds = java.util.Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[n++] = base + matcher.start();
+            bounds[n++] = base + matcher.end();
+        }
+        matcher.reset("");
+        return n;
+    }
+
+    // reverse by grapheme cluster: reverse each cluster in place, then the whole
+    // range - clusters end up in reverse order with their insides untouched.
+    // Cluster boundaries go into the reused bounds buffer.
+    public void reverseGraphemes(char a[], int off, int len) {
+        int n = clusters(CharBuffer.wrap(a, off, len), off);
+        for (int i = 0; i < n; i += 2) {
+            reverseUnits(a, bounds[i], bounds[i + 1]);
+        }
+        reverseUnits(a, off, off + len);
+    }
+
+    static void reverseUnits(CharBuffer cb, int lo, int hi) {
+        for (hi--; lo < hi; lo++, hi--) {
+            char temp = cb.get(lo);
+            cb.put(lo, cb.get(hi));
+            cb.put(hi, temp);
+        }
+    }
+
+    // position..limit of cb, by grapheme cluster
+    public void reverseGraphemes(CharBuffer cb) {
+        if (cb.hasArray()) {
+            reverseGraphemes(cb.array(), cb.arrayOffset() + cb.position(), cb.remaining());
+            return;
+        }
+        int n = clusters(cb, cb.position()); // a CharBuffer reads relative to its position
+        for (int i = 0; i < n; i += 2) {
+            reverseUnits(cb, bounds[i], bounds[i + 1]);
+        }
+        reverseUnits(cb, cb.position(), cb.limit());
+    }
+
+    // UTF-8 by grapheme cluster. The bytes are decoded into the reused char
+    // buffer only to find the clusters; each cluster's byte length follows from
+    // its chars, then the bytes are reversed per cluster and as a whole, like
+    // the char[] version. Malformed UTF-8 throws IllegalArgumentException.
+    public void reverseGraphemes(byte a[], int off, int len) {
+        if (buf.length < len) {
+            buf = new char[Math.max(len, buf.length * 2)]; // never more chars than bytes
+        }
+        CharBuffer chars = CharBuffer.wrap(buf);
+        utf8.reset();
+        if (utf8.decode(ByteBuffer.wrap(a, off, len), chars, true).isError() || utf8.flush(chars).isError()) {
+            throw new IllegalArgumentException("malformed UTF-8");
+        }
+        int nChars = chars.position();
+        int n = clusters(CharBuffer.wrap(buf, 0, nChars), 0);
+        int b = off;
+        for (int i = 0; i < n; i += 2) {
+            int start = b;
+            for (int c = bounds[i]; c < bounds[i + 1]; c++) {
+                char ch = buf[c];
+                if (Character.isHighSurrogate(ch)) {
+                    b += 4;
+                    c++;
+                } else {
+                    b += ch < 0x80 ? 1 : ch < 0x800 ? 2 : 3;
+                }
+            }
+            reverseBytes(a, start, b);
+        }
+        reverseBytes(a, off, off + len);
+    }
+
+    static void reverseBytes(byte a[], int lo, int hi) {
+        for (hi--; lo < hi; lo++, hi--) {
+            byte temp = a[lo];
+            a[lo] = a[hi];
+            a[hi] = temp;
+        }
+    }
+
+    // ---- String convenience, one reused char buffer ----
+
+    private char[] load(String s) {
+        if (buf.length < s.length()) {
+            buf = new char[Math.max(s.length(), buf.length * 2)];
+        }
+        s.getChars(0, s.length(), buf, 0);
+        return buf;
+    }
+
+    public String reverse(String s) {
+        char a[] = load(s);
+        reverse(a, 0, s.length());
+        return new String(a, 0, s.length());
+    }
+
+    public String reverseGraphemes(String s) {
+        char a[] = load(s);
+        reverseGraphemes(a, 0, s.length());
+        return new String(a, 0, s.length());
+    }
+
+    // out[i] = reversed in[i]; in and out may be the same array
+    public void reverseAll(String in[], String out[], boolean graphemes) {
+        for (int i = 0; i < in.length; i++) {
+            out[i] = graphemes ? reverseGraphemes(in[i]) : reverse(in[i]);
+        }
+    }
+
+    public static void main(String[] args) {
+        StringReverser r = new StringReverser();
+        System.out.println(r.reverse("abc")); // cba
+
+        String pair = "a\uD83D\uDE00b";       // a, emoji (surrogate pair), b
+        System.out.println(r.reverse(pair).equals("b\uD83D\uDE00a"));
+
+        String accent = "e\u0301x";          // e + combining acute, x
+        System.out.println(r.reverseGraphemes(accent).equals("xe\u0301"));
+
+        byte utf8[] = "h\u00E9\u20AC\uD83D\uDE00!".getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        reverse(utf8, 0, utf8.length);
+        System.out.println(new String(utf8, java.nio.charset.StandardCharsets.UTF_8)
+                .equals("!\uD83D\uDE00\u20AC\u00E9h"));
+
+        CharBuffer direct = java.nio.ByteBuffer.allocateDirect(16).asCharBuffer();
+        direct.put("xy\uD83D\uDE00z").flip();
+        reverse(direct);
+        System.out.println(direct.toString().equals("z\uD83D\uDE00yx"));
+
+        // clusters survive in CharBuffer and UTF-8 too: the accent stays on the e
+        CharBuffer accents = java.nio.ByteBuffer.allocateDirect(16).asCharBuffer();
+        accents.put("ae\u0301x").flip();
+        r.reverseGraphemes(accents);
+        System.out.println(accents.toString().equals("xe\u0301a"));
+
+        String flags = "e\u0301x\uD83C\uDDEB\uD83C\uDDF7\u00E9";   // e+accent, x, French flag, \u00E9
+        byte bytes[] = flags.getBytes(StandardCharsets.UTF_8);
+        r.reverseGraphemes(bytes, 0, bytes.length);
+        System.out.println(new String(bytes, StandardCharsets.UTF_8)
+                .equals("\u00E9\uD83C\uDDEB\uD83C\uDDF7xe\u0301"));
+
+        String words[] = new String[2_000_000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "token-" + i;
+        }
+        long start = System.nanoTime();
+        r.reverseAll(words, words, false);
+        long ms = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("reversed " + words.length + " strings in " + ms + " ms, last = " + words[words.length - 1]);
+    }
+}